@@ -0,0 +1,109 @@
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.function.Consumer; // Fornece a interface funcional Consumer usada para passar funções lambda.
+
+// Executa uma simulação completa sobre o relógio virtual, sem esperas reais e com contabilização determinística
+public class BatchSimulation {
+    private final VirtualClock clock; // Relógio virtual da simulação
+    private final ShortTermScheduler shortTermScheduler; // Escalonador de curto prazo
+    private final LongTermScheduler longTermScheduler; // Escalonador de longo prazo
+    private int submittedProcesses; // Número de processos submetidos
+    private boolean started; // Indica se os escalonadores já foram iniciados
+
+    // Construtor que cria os escalonadores sobre um relógio virtual com uma única CPU e a política original
+    public BatchSimulation(int quantum, int maxLoad, Consumer<String> outputConsumer) {
+        this(quantum, maxLoad, 1, new IoPriorityPolicy(), outputConsumer);
+    }
+
+    // Construtor que cria os escalonadores sobre um relógio virtual com a carga máxima, o número de CPUs e a política informados
+    public BatchSimulation(int quantum, int maxLoad, int cpuCount, SchedulingPolicy policy, Consumer<String> outputConsumer) {
+        this.clock = new VirtualClock(); // Inicializa o relógio virtual
+        this.shortTermScheduler = new ShortTermScheduler(quantum, cpuCount, policy, clock, outputConsumer); // Inicializa o escalonador de curto prazo
+        this.longTermScheduler = new LongTermScheduler(shortTermScheduler, maxLoad, outputConsumer); // Inicializa o escalonador de longo prazo
+        this.submittedProcesses = 0;
+        this.started = false;
+    }
+
+    // Submete um processo ao escalonador de longo prazo
+    public void submit(Process process) {
+        longTermScheduler.addProcess(process);
+        submittedProcesses++;
+    }
+
+    // Submete um processo que chega ao escalonador de longo prazo no instante virtual informado
+    public void submit(Process process, long arrivalTime) {
+        if (arrivalTime <= clock.now()) {
+            submit(process);
+        } else {
+            longTermScheduler.scheduleArrival(process, arrivalTime);
+            submittedProcesses++;
+        }
+    }
+
+    // Submete uma lista de processos
+    public void submitAll(List<Process> processes) {
+        for (Process process : processes) {
+            submit(process);
+        }
+    }
+
+    // Executa a simulação até que todos os processos submetidos terminem ou o relógio seja pausado
+    public void run() {
+        start();
+        clock.runUntil(this::isFinished);
+        if (!clock.isPaused()) {
+            clock.shutdown(); // Descarta os eventos periódicos restantes
+        }
+    }
+
+    // Executa a simulação até o instante virtual informado, deixando-a pronta para um checkpoint; retorna se todos os processos terminaram
+    public boolean runUntil(long time) {
+        start();
+        clock.runUntilTime(time, this::isFinished);
+        return isFinished();
+    }
+
+    // Inicia os escalonadores na primeira execução
+    private void start() {
+        if (!started) {
+            shortTermScheduler.run(); // Agenda o despacho das CPUs
+            longTermScheduler.run(); // Agenda a primeira admissão
+            started = true;
+        }
+    }
+
+    // Verifica se todos os processos submetidos terminaram
+    public boolean isFinished() {
+        return shortTermScheduler.getFinishedCount() >= submittedProcesses;
+    }
+
+    // Marca a simulação como restaurada de um checkpoint: os escalonadores já têm seus eventos agendados
+    public void markRestored(int submittedProcesses) {
+        this.submittedProcesses = submittedProcesses;
+        this.started = true;
+    }
+
+    // Retorna o número de processos submetidos
+    public int getSubmittedProcesses() {
+        return submittedProcesses;
+    }
+
+    // Retorna o instante virtual em que a simulação terminou
+    public long getElapsedTime() {
+        return clock.now();
+    }
+
+    // Retorna o relógio virtual da simulação
+    public VirtualClock getClock() {
+        return clock;
+    }
+
+    // Retorna o escalonador de curto prazo
+    public ShortTermScheduler getShortTermScheduler() {
+        return shortTermScheduler;
+    }
+
+    // Retorna o escalonador de longo prazo
+    public LongTermScheduler getLongTermScheduler() {
+        return longTermScheduler;
+    }
+}
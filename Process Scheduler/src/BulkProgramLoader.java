@@ -0,0 +1,131 @@
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.nio.ByteBuffer; // Buffer de bytes usado para ler o conteúdo dos arquivos.
+import java.nio.charset.StandardCharsets; // Conjuntos de caracteres padrão.
+import java.nio.file.DirectoryStream; // Permite percorrer as entradas de um diretório.
+import java.nio.file.Files; // Utilitários para manipulação de arquivos.
+import java.nio.file.Path; // Representa o caminho de um arquivo.
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.concurrent.ExecutionException; // Exceção lançada por uma tarefa que falhou.
+import java.util.concurrent.ExecutorService; // Executor que gerencia um conjunto de threads.
+import java.util.concurrent.Executors; // Fornece métodos para criar executores.
+import java.util.concurrent.Future; // Resultado de uma tarefa assíncrona.
+import java.util.concurrent.atomic.AtomicInteger; // Contador atômico.
+import java.util.function.Consumer; // Fornece a interface funcional Consumer usada para passar funções lambda.
+
+// Carrega programas em lote a partir de um diretório ou de um arquivo com vários programas concatenados,
+// analisando-os em paralelo e entregando cada processo ao consumidor assim que fica pronto
+public class BulkProgramLoader implements AutoCloseable {
+    private static final int CHUNK_SIZE = 4 << 20; // Tamanho aproximado dos trechos de um arquivo grande analisados em paralelo
+    private static final byte[] PROGRAM_MARKER = "\nprogram ".getBytes(StandardCharsets.UTF_8); // Início de um programa, na mesma codificação usada pelo analisador
+
+    private final ExecutorService workers; // Threads que analisam os arquivos
+    private final Consumer<Process> sink; // Destino dos processos analisados (deve ser seguro para várias threads)
+    private final Consumer<String> errorConsumer; // Consumidor das mensagens de erro
+    private final AtomicInteger failures; // Número de programas ou arquivos com erro na última carga
+
+    // Construtor que cria um executor com o número de threads informado
+    public BulkProgramLoader(int threads, Consumer<Process> sink, Consumer<String> errorConsumer) {
+        this.workers = Executors.newFixedThreadPool(threads); // Cria o conjunto de threads de análise
+        this.sink = sink;
+        this.errorConsumer = errorConsumer;
+        this.failures = new AtomicInteger();
+    }
+
+    // Carrega todos os programas de um diretório ou arquivo, aguardando o fim da análise; retorna o número de processos carregados
+    public int load(Path path) throws IOException, InterruptedException {
+        failures.set(0); // Reinicia o contador de erros
+        AtomicInteger loaded = new AtomicInteger(); // Número de processos carregados
+        List<Future<?>> tasks = new ArrayList<>(); // Tarefas de análise submetidas
+
+        if (Files.isDirectory(path)) {
+            // Cada arquivo do diretório é analisado por uma tarefa
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(path)) {
+                for (Path file : files) {
+                    if (Files.isRegularFile(file)) {
+                        tasks.add(workers.submit(() -> parseFile(file, loaded)));
+                    }
+                }
+            }
+        } else {
+            // Um arquivo grande é dividido em trechos que começam em um cabeçalho "program"
+            ByteBuffer buffer = ProgramParser.readFile(path);
+            int start = buffer.position();
+            int firstLine = 1;
+            while (start < buffer.limit()) {
+                int end = nextProgramBoundary(buffer, start + CHUNK_SIZE);
+                ByteBuffer chunk = buffer.duplicate(); // Visão independente do mesmo conteúdo
+                chunk.position(start).limit(end);
+                int chunkFirstLine = firstLine;
+                tasks.add(workers.submit(() -> parseChunk(chunk, path.toString(), chunkFirstLine, loaded)));
+                firstLine += countLines(buffer, start, end);
+                start = end;
+            }
+        }
+
+        for (Future<?> task : tasks) {
+            try {
+                task.get(); // Aguarda o fim de cada tarefa
+            } catch (ExecutionException e) {
+                failures.incrementAndGet();
+                errorConsumer.accept("Failed to load programs: " + e.getCause()); // Reporta falhas inesperadas
+            }
+        }
+        return loaded.get();
+    }
+
+    // Retorna o número de programas ou arquivos com erro na última carga
+    public int getFailures() {
+        return failures.get();
+    }
+
+    // Encerra os threads de análise
+    @Override
+    public void close() {
+        workers.shutdown();
+    }
+
+    // Analisa um arquivo do diretório
+    private void parseFile(Path file, AtomicInteger loaded) {
+        try {
+            parseChunk(ProgramParser.readFile(file), file.toString(), 1, loaded);
+        } catch (IOException e) {
+            failures.incrementAndGet();
+            errorConsumer.accept("Failed to read file: " + e.getMessage());
+        }
+    }
+
+    // Analisa um trecho, entregando os processos ao consumidor e reportando os programas inválidos
+    private void parseChunk(ByteBuffer chunk, String source, int firstLine, AtomicInteger loaded) {
+        loaded.addAndGet(ProgramParser.parseAll(chunk, source, firstLine, sink, e -> {
+            failures.incrementAndGet();
+            errorConsumer.accept("Invalid program: " + e.getMessage());
+        }));
+    }
+
+    // Retorna o início da primeira linha "program" a partir da posição informada, ou o fim do buffer
+    private static int nextProgramBoundary(ByteBuffer buffer, int from) {
+        int limit = buffer.limit();
+        for (int i = Math.max(from, buffer.position()) - 1; i >= 0 && i <= limit - PROGRAM_MARKER.length; i++) {
+            int j = 0;
+            while (j < PROGRAM_MARKER.length && buffer.get(i + j) == PROGRAM_MARKER[j]) {
+                j++;
+            }
+            if (j == PROGRAM_MARKER.length) {
+                return i + 1; // O trecho seguinte começa logo após a quebra de linha
+            }
+        }
+        return limit;
+    }
+
+    // Conta as quebras de linha em um intervalo do buffer
+    private static int countLines(ByteBuffer buffer, int from, int to) {
+        int lines = 0;
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,110 @@
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.Collections; // Utilitários para coleções.
+import java.util.IdentityHashMap; // Mapa que compara as chaves por identidade.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.Set; // Interface que representa um conjunto.
+import java.util.concurrent.CountDownLatch; // Barreira usada para liberar todos os produtores ao mesmo tempo.
+
+// Teste de estresse das filas concorrentes: vários threads chamam addProcess ao mesmo tempo enquanto as CPUs despacham no relógio
+// de tempo real e o reajuste de prioridades reordena as filas de prontos. Verifica que cada processo submetido termina
+// exatamente uma vez, com todas as instruções executadas, e que as filas terminam vazias.
+// Uso: java ConcurrencyStress [threads] [processos por thread] [rodadas]
+public class ConcurrencyStress {
+    private static final int QUANTUM = 1; // Quantum curto para que os despachos ocorram durante as submissões
+    private static final int CPUS = 8; // CPUs simuladas, cada uma despachada pelo seu próprio thread do relógio
+    private static final int MAX_LOAD = 64; // Carga máxima do escalonador de curto prazo
+    private static final int BOOST_INTERVAL = 2; // Intervalo de reajuste da política MLFQ, em quanta
+    private static final long TIMEOUT = 120_000; // Tempo máximo de espera pela finalização, em milissegundos
+
+    // Método principal que executa as rodadas e termina com exceção na primeira falha
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int perThread = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        ProgramImage program = new ProgramImage(new int[] {
+            ProgramCode.encode(ProgramCode.EXECUTE, 2),
+            ProgramCode.encode(ProgramCode.BLOCK, ProgramCode.blockOperand(0, 1)),
+            ProgramCode.encode(ProgramCode.EXECUTE, 1)
+        });
+        for (int round = 0; round < rounds; round++) {
+            run("long-term addProcess, round " + round, threads, perThread, program, true);
+            run("short-term addProcess, round " + round, threads, perThread, program, false);
+        }
+    }
+
+    // Executa uma rodada: os produtores submetem ao escalonador de longo prazo ou diretamente ao de curto prazo
+    private static void run(String name, int threads, int perThread, ProgramImage program, boolean longTerm) throws Exception {
+        ShortTermScheduler shortTermScheduler = new ShortTermScheduler(QUANTUM, CPUS, new MultilevelFeedbackPolicy(3, BOOST_INTERVAL), message -> { });
+        LongTermScheduler longTermScheduler = new LongTermScheduler(shortTermScheduler, MAX_LOAD, message -> { });
+        shortTermScheduler.run(); // As CPUs começam a despachar antes das submissões
+        longTermScheduler.run();
+
+        int total = threads * perThread;
+        List<Process> submitted = Collections.synchronizedList(new ArrayList<>(total));
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int producer = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt(); // Preserva o estado de interrupção
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    Process process = new Process("stress_" + producer + "_" + i, program);
+                    submitted.add(process);
+                    if (longTerm) {
+                        longTermScheduler.addProcess(process);
+                    } else {
+                        shortTermScheduler.addProcess(process);
+                    }
+                }
+            }, "stress-producer-" + t);
+            producers.add(thread);
+            thread.start();
+        }
+        long start = System.currentTimeMillis();
+        gate.countDown(); // Libera todos os produtores ao mesmo tempo
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        while (shortTermScheduler.getFinishedCount() < total && System.currentTimeMillis() - start < TIMEOUT) {
+            Thread.sleep(10);
+        }
+        shortTermScheduler.getClock().shutdown();
+
+        check(name, shortTermScheduler, longTermScheduler, submitted, total);
+        System.out.printf("%-40s %d processes from %d threads finished once each in %d ms%n", name, total, threads,
+                System.currentTimeMillis() - start);
+    }
+
+    // Verifica que nenhum processo foi perdido ou duplicado e que as filas terminaram vazias
+    private static void check(String name, ShortTermScheduler shortTermScheduler, LongTermScheduler longTermScheduler,
+            List<Process> submitted, int total) {
+        List<Process> finished = new ArrayList<>(shortTermScheduler.getFinishedProcesses());
+        Set<Process> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Process process : finished) {
+            if (!distinct.add(process)) {
+                throw new IllegalStateException(name + ": process finished twice: " + process.getId()); // Processo duplicado
+            }
+            if (process.hasNextInstruction() || process.getState() != ProcessState.FINISHED) {
+                throw new IllegalStateException(name + ": process finished before its last instruction: " + process.getId());
+            }
+        }
+        for (Process process : submitted) {
+            if (!distinct.contains(process)) {
+                throw new IllegalStateException(name + ": process lost in state " + process.getState() + ": " + process.getId()); // Processo perdido
+            }
+        }
+        if (finished.size() != total || shortTermScheduler.getFinishedCount() != total) {
+            throw new IllegalStateException(name + ": " + finished.size() + " finished processes, " + shortTermScheduler.getFinishedCount()
+                    + " counted, " + total + " submitted");
+        }
+        if (shortTermScheduler.getProcessLoad() != 0 || longTermScheduler.getProcessLoad() != 0) {
+            throw new IllegalStateException(name + ": queues not empty: short-term load " + shortTermScheduler.getProcessLoad()
+                    + ", long-term load " + longTermScheduler.getProcessLoad());
+        }
+    }
+}
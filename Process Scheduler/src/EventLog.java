@@ -0,0 +1,143 @@
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.concurrent.CopyOnWriteArrayList; // Lista segura para leitura concorrente, alterada raramente.
+import java.util.concurrent.Executors; // Fornece métodos para criar executores.
+import java.util.concurrent.ScheduledExecutorService; // Executor que agenda tarefas periódicas.
+import java.util.concurrent.TimeUnit; // Enum usado para especificar unidades de tempo.
+import java.util.concurrent.atomic.AtomicLong; // Contador atômico de 64 bits.
+import java.util.concurrent.atomic.AtomicReferenceArray; // Array de referências com acesso volátil.
+import java.util.function.Consumer; // Fornece a interface funcional Consumer usada para passar funções lambda.
+
+// Log de eventos com buffer circular limitado: os escalonadores publicam mensagens sem bloquear e um único thread
+// consumidor as entrega em lotes aos destinos (interface gráfica, arquivo) a uma taxa fixa.
+// Se o buffer encher, os eventos excedentes são descartados e contados, para que o escalonador nunca espere pelo log.
+// Um destino que lança exceção é informado em System.err e removido; os demais continuam recebendo os eventos, e a entrega
+// periódica, que seria cancelada por uma exceção não tratada, prossegue.
+public class EventLog implements Consumer<String>, AutoCloseable {
+    private final int mask; // Máscara para calcular a posição no buffer (capacidade potência de 2)
+    private final AtomicReferenceArray<String> messages; // Mensagens publicadas (null enquanto a posição está livre)
+    private final long[] timestamps; // Instante de cada mensagem
+    private final AtomicLong tail; // Próxima posição a ser reservada pelos produtores
+    private volatile long head; // Próxima posição a ser lida pelo consumidor
+    private final AtomicLong dropped; // Eventos descartados por falta de espaço
+    private final List<EventSink> sinks; // Destinos dos eventos
+    private final ScheduledExecutorService consumer; // Thread que entrega os lotes
+
+    // Construtor que cria o buffer com a capacidade informada (arredondada para potência de 2) e inicia a entrega a cada framePeriod ms
+    public EventLog(int capacity, long framePeriod) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1; // Arredonda para a próxima potência de 2
+        this.mask = size - 1;
+        this.messages = new AtomicReferenceArray<>(size);
+        this.timestamps = new long[size];
+        this.tail = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.sinks = new CopyOnWriteArrayList<>();
+        this.consumer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "event-log");
+            thread.setDaemon(true); // Não impede o encerramento da aplicação
+            return thread;
+        });
+        consumer.scheduleAtFixedRate(this::drain, framePeriod, framePeriod, TimeUnit.MILLISECONDS);
+    }
+
+    // Adiciona um destino de eventos
+    public void addSink(EventSink sink) {
+        sinks.add(sink);
+    }
+
+    // Publica uma mensagem; descarta-a se o buffer estiver cheio
+    @Override
+    public void accept(String message) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head > mask) { // Buffer cheio
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1)); // Reserva a posição
+        int index = (int) (sequence & mask);
+        timestamps[index] = System.currentTimeMillis();
+        messages.set(index, message); // Publica a mensagem (escrita volátil, visível ao consumidor junto com o instante)
+    }
+
+    // Retorna o número de eventos descartados
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    // Entrega os eventos restantes e encerra o consumidor e os destinos
+    @Override
+    public void close() {
+        consumer.shutdown();
+        try {
+            consumer.awaitTermination(1, TimeUnit.SECONDS); // Aguarda o lote em andamento
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Preserva o estado de interrupção
+        }
+        drain(); // Entrega o que ainda estiver no buffer
+        for (EventSink sink : sinks) {
+            closeQuietly(sink);
+        }
+    }
+
+    // Entrega aos destinos todos os eventos publicados desde o último lote
+    private synchronized void drain() {
+        long droppedSinceLastBatch = dropped.getAndSet(0);
+        long position = head;
+        long end = tail.get();
+        if (position == end && droppedSinceLastBatch == 0) {
+            return; // Nada a entregar
+        }
+        while (position < end) {
+            int index = (int) (position & mask);
+            String message = messages.get(index);
+            if (message == null) {
+                break; // Posição reservada mas ainda não publicada: fica para o próximo lote
+            }
+            long timestamp = timestamps[index];
+            messages.lazySet(index, null); // Libera a posição
+            for (EventSink sink : sinks) {
+                try {
+                    sink.write(position, timestamp, message);
+                } catch (RuntimeException e) {
+                    remove(sink, e);
+                }
+            }
+            position++;
+            head = position; // Libera espaço para os produtores
+        }
+        if (droppedSinceLastBatch > 0) {
+            for (EventSink sink : sinks) {
+                try {
+                    sink.write(-1, System.currentTimeMillis(), droppedSinceLastBatch + " events dropped (log buffer full)"); // Evento sintético, sem sequência
+                } catch (RuntimeException e) {
+                    remove(sink, e);
+                }
+            }
+        }
+        for (EventSink sink : sinks) {
+            try {
+                sink.flush();
+            } catch (RuntimeException e) {
+                remove(sink, e);
+            }
+        }
+    }
+
+    // Método que remove um destino que falhou, informando a falha, para que ele não interrompa a entrega aos demais
+    private void remove(EventSink sink, RuntimeException failure) {
+        if (sinks.remove(sink)) { // A lista é copiada a cada alteração: os laços em andamento não são afetados
+            System.err.println("Event sink " + sink.getClass().getName() + " failed and was removed: " + failure);
+            closeQuietly(sink);
+        }
+    }
+
+    // Método que fecha um destino, informando em vez de propagar uma falha
+    private static void closeQuietly(EventSink sink) {
+        try {
+            sink.close();
+        } catch (RuntimeException e) {
+            System.err.println("Failed to close event sink " + sink.getClass().getName() + ": " + e);
+        }
+    }
+}
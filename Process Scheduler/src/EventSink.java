@@ -0,0 +1,6 @@
+// Destino dos eventos do log: recebe os eventos em lotes, sempre a partir do thread consumidor do EventLog
+public interface EventSink {
+    void write(long sequence, long timestamp, String message); // Recebe um evento do lote atual
+    void flush(); // Chamado ao fim de cada lote
+    void close(); // Libera os recursos do destino
+}
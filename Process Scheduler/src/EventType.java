@@ -0,0 +1,9 @@
+// Tipos de eventos tratados pelo relógio da simulação
+public enum EventType {
+    ARRIVAL, // Chegada de um processo ao escalonador de longo prazo
+    ADMISSION, // Admissão de processos do escalonador de longo prazo
+    DISPATCH, // Despacho de um processo para a CPU
+    QUANTUM_EXPIRY, // Fim do quantum de um processo em execução
+    IO_COMPLETION, // Fim de uma operação de entrada e saída
+    PRIORITY_BOOST // Reajuste periódico das prioridades pela política de escalonamento
+}
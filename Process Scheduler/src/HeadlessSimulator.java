@@ -0,0 +1,205 @@
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.nio.file.Paths; // Fornece métodos para criar caminhos.
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.Arrays; // Utilitários para arrays.
+import java.util.Collections; // Utilitários para coleções.
+import java.util.Comparator; // Interface para comparar elementos.
+import java.util.HashMap; // Implementação de mapa baseada em tabela hash.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.Map; // Interface que representa um mapa de chaves e valores.
+import java.util.Queue; // Interface que representa uma fila de elementos.
+import java.util.concurrent.ConcurrentLinkedQueue; // Fila encadeada concorrente e sem bloqueios.
+import java.util.function.Consumer; // Fornece a interface funcional Consumer usada para passar funções lambda.
+
+// Executa uma simulação completa sem interface gráfica, sobre o relógio virtual, e imprime um resumo em JSON na saída padrão
+public class HeadlessSimulator {
+    private static final String USAGE = "Usage: java HeadlessSimulator [--quantum ms] [--max-load n] [--cpus n] [--policy priority|mlfq]\n"
+            + "    [--processes n] [--cpu-bound fraction] [--cpu-burst quanta] [--io-burst quanta] [--bursts n]\n"
+            + "    [--arrival-rate per-second] [--seed n] [--programs dir|file] [--log file.jsonl]\n"
+            + "    [--checkpoint-at ms --checkpoint file] [--resume file] [--trace file] [--devices name:concurrency[:fifo|sjf],...]\n"
+            + "    [--instrumentation true|false]";
+    private static final String[] OPTIONAL = {"programs", "log", "checkpoint", "checkpoint-at", "resume", "trace", "devices", "instrumentation"}; // Opções sem valor padrão
+
+    // Valores padrão das opções (também usados pela varredura de parâmetros)
+    static Map<String, String> defaults() {
+        Map<String, String> options = new HashMap<>();
+        options.put("quantum", "200");
+        options.put("max-load", "10");
+        options.put("cpus", "1");
+        options.put("policy", "priority");
+        options.put("processes", "1000");
+        options.put("cpu-bound", "0.5");
+        options.put("cpu-burst", "8");
+        options.put("io-burst", "4");
+        options.put("bursts", "5");
+        options.put("arrival-rate", "0");
+        options.put("seed", "42");
+        return options;
+    }
+
+    // Método principal que lê as opções, executa a simulação e imprime o resumo
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options;
+        try {
+            options = parseOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE); // Exibe mensagem de uso
+            System.exit(1); // Encerra o programa
+            return;
+        }
+
+        EventLog eventLog = null; // Log opcional dos eventos da simulação
+        Consumer<String> output = message -> { }; // Sem log, as mensagens são descartadas
+        if (options.containsKey("log")) {
+            eventLog = new EventLog(1 << 16, 100);
+            eventLog.addSink(new JsonlFileSink(Paths.get(options.get("log"))));
+            output = eventLog;
+        }
+
+        List<String> loadErrors = Collections.synchronizedList(new ArrayList<>()); // Erros reportados pelos threads de análise
+        BatchSimulation simulation = options.containsKey("resume")
+                ? SimulationCheckpoint.read(Paths.get(options.get("resume")), output) // Continua uma simulação gravada, com a configuração dela
+                : createSimulation(options, output);
+        ShortTermScheduler shortTermScheduler = simulation.getShortTermScheduler();
+        boolean instrumented = Boolean.parseBoolean(options.get("instrumentation"));
+        if (instrumented) {
+            shortTermScheduler.getInstrumentation().setEnabled(true);
+            shortTermScheduler.getInstrumentation().register("headless"); // Permite acompanhar execuções longas por JMX
+        }
+        TraceRecorder traceRecorder = null; // Trace opcional das decisões de escalonamento
+        if (options.containsKey("trace")) {
+            traceRecorder = new TraceRecorder(Paths.get(options.get("trace")), shortTermScheduler.getQuantum(), shortTermScheduler.getCpuCount(),
+                    simulation.getLongTermScheduler().getMaxLoad(), shortTermScheduler.getPolicy().getName());
+            shortTermScheduler.setTraceRecorder(traceRecorder);
+        }
+        if (!options.containsKey("resume")) {
+            submitWorkload(simulation, options, loadErrors); // Submetida depois de ativar o trace, para que as chegadas sejam registradas
+        }
+
+        long start = System.nanoTime();
+        if (options.containsKey("checkpoint")) {
+            simulation.runUntil(Long.parseLong(options.get("checkpoint-at"))); // Para no instante informado
+            SimulationCheckpoint.write(simulation, Paths.get(options.get("checkpoint")));
+        } else {
+            simulation.run();
+        }
+        long wallTime = (System.nanoTime() - start) / 1_000_000;
+        if (eventLog != null) {
+            eventLog.close(); // Entrega os eventos restantes ao arquivo
+        }
+        if (traceRecorder != null) {
+            traceRecorder.close(); // Grava o restante do trace
+        }
+
+        for (String error : loadErrors) {
+            System.err.println(error);
+        }
+        System.out.println("{\"config\":{\"quantum\":" + shortTermScheduler.getQuantum() + ",\"maxLoad\":" + simulation.getLongTermScheduler().getMaxLoad()
+                + ",\"cpus\":" + shortTermScheduler.getCpuCount() + ",\"policy\":\"" + shortTermScheduler.getPolicy().getName()
+                + "\",\"submitted\":" + simulation.getSubmittedProcesses() + ",\"loadErrors\":" + loadErrors.size()
+                + "},\"complete\":" + simulation.isFinished() + ",\"wallTimeMs\":" + wallTime
+                + ",\"metrics\":" + shortTermScheduler.getMetricsSnapshot().toJson() + ",\"devices\":" + devicesToJson(shortTermScheduler)
+                + (instrumented ? ",\"instrumentation\":" + shortTermScheduler.getInstrumentation().toJson() : "") + "}");
+    }
+
+    // Cria a simulação com a configuração informada nas opções
+    private static BatchSimulation createSimulation(Map<String, String> options, Consumer<String> output) {
+        int quantum = Integer.parseInt(options.get("quantum"));
+        int maxLoad = Integer.parseInt(options.get("max-load"));
+        int cpuCount = Integer.parseInt(options.get("cpus"));
+        SchedulingPolicy policy = SchedulingPolicy.forName(options.get("policy"));
+        BatchSimulation simulation = new BatchSimulation(quantum, maxLoad, cpuCount, policy, output);
+        configureDevices(simulation, options);
+        return simulation;
+    }
+
+    // Retorna a configuração e as estatísticas dos dispositivos de E/S em JSON
+    static String devicesToJson(ShortTermScheduler shortTermScheduler) {
+        StringBuilder json = new StringBuilder("[");
+        for (IoDevice device : shortTermScheduler.getDevices()) {
+            json.append(json.length() == 1 ? "" : ",").append(device.toJson());
+        }
+        return json.append(']').toString();
+    }
+
+    // Submete os programas e a carga gerada informados nas opções
+    private static void submitWorkload(BatchSimulation simulation, Map<String, String> options, List<String> loadErrors) throws IOException, InterruptedException {
+        if (options.containsKey("programs")) {
+            simulation.submitAll(loadPrograms(options.get("programs"), loadErrors)); // Programas lidos de arquivos chegam no instante zero
+        }
+        createGenerator(options).generate(Integer.parseInt(options.get("processes")), simulation::submit);
+    }
+
+    // Analisa os programas em paralelo e os retorna em ordem de nome, para que a simulação seja reproduzível
+    static List<Process> loadPrograms(String path, List<String> loadErrors) throws IOException, InterruptedException {
+        Queue<Process> loaded = new ConcurrentLinkedQueue<>();
+        try (BulkProgramLoader loader = new BulkProgramLoader(Runtime.getRuntime().availableProcessors(), loaded::add, loadErrors::add)) {
+            loader.load(Paths.get(path));
+        }
+        List<Process> programs = new ArrayList<>(loaded);
+        programs.sort(Comparator.comparing(Process::getId));
+        return programs;
+    }
+
+    // Configura na simulação os dispositivos de E/S informados nas opções
+    static void configureDevices(BatchSimulation simulation, Map<String, String> options) {
+        if (options.containsKey("devices")) {
+            for (IoDevice device : IoDevice.parse(options.get("devices"))) {
+                simulation.getShortTermScheduler().configureDevice(device);
+            }
+        }
+    }
+
+    // Cria o gerador da carga sintética descrita nas opções; a mesma semente sempre gera a mesma carga
+    static WorkloadGenerator createGenerator(Map<String, String> options) {
+        WorkloadGenerator generator = new WorkloadGenerator(Double.parseDouble(options.get("cpu-bound")),
+                Double.parseDouble(options.get("cpu-burst")), Double.parseDouble(options.get("io-burst")),
+                Integer.parseInt(options.get("bursts")), Double.parseDouble(options.get("arrival-rate")), Long.parseLong(options.get("seed")));
+        if (options.containsKey("devices")) {
+            // As rajadas de E/S da carga gerada são distribuídas entre os dispositivos configurados
+            List<IoDevice> devices = IoDevice.parse(options.get("devices"));
+            int[] indexes = new int[devices.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = IoDeviceRegistry.indexOf(devices.get(i).getName());
+            }
+            generator.setIoDevices(indexes);
+        }
+        return generator;
+    }
+
+    // Lê as opções no formato --nome valor
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = parseOptions(args, defaults(), OPTIONAL);
+        if (options.containsKey("checkpoint") != options.containsKey("checkpoint-at")) {
+            throw new IllegalArgumentException("--checkpoint and --checkpoint-at must be given together"); // Lança exceção se faltar o arquivo ou o instante
+        }
+        return options;
+    }
+
+    // Lê as opções no formato --nome valor sobre os valores padrão informados; aceita apenas as opções com valor padrão e as
+    // opcionais (também usado pela varredura de parâmetros)
+    static Map<String, String> parseOptions(String[] args, Map<String, String> options, String[] optional) {
+        for (int i = 0; i < args.length; i += 2) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : null;
+            if (name == null || i + 1 >= args.length || !(options.containsKey(name) || Arrays.asList(optional).contains(name))) {
+                throw new IllegalArgumentException("Invalid option: " + args[i]); // Lança exceção se a opção for desconhecida ou não tiver valor
+            }
+            if (name.equals("programs") && !containsOption(args, "processes")) {
+                options.put("processes", "0"); // Com programas em arquivo, a carga gerada é opcional
+            }
+            options.put(name, args[i + 1]);
+        }
+        return options;
+    }
+
+    // Verifica se a opção informada aparece nos argumentos
+    private static boolean containsOption(String[] args, String name) {
+        for (int i = 0; i < args.length; i += 2) {
+            if (args[i].equals("--" + name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,172 @@
+import java.io.DataInput; // Interface para ler tipos primitivos de um fluxo binário.
+import java.io.DataOutput; // Interface para escrever tipos primitivos em um fluxo binário.
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.util.ArrayDeque; // Fila circular baseada em array.
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.Locale; // Usado para formatar números com ponto decimal.
+import java.util.PriorityQueue; // Fila de prioridade baseada em heap.
+import java.util.Queue; // Interface que representa uma fila de elementos.
+
+// Dispositivo de E/S simulado: atende até concurrency requisições ao mesmo tempo (0 para ilimitado) e enfileira as demais
+// segundo a disciplina de serviço. O tempo de serviço é contado pela roda de E/S do escalonador; o dispositivo apenas decide
+// quem é atendido e quando. O escalonador serializa as requisições; os métodos são sincronizados para que a interface possa
+// consultar o dispositivo durante a simulação.
+public class IoDevice {
+    // Disciplina de serviço da fila do dispositivo
+    public enum Discipline {
+        FIFO, // Ordem de chegada
+        SJF // Requisição mais curta primeiro; em empate, ordem de chegada
+    }
+
+    private final String name; // Nome do dispositivo, usado nos programas ("block N nome")
+    private final Discipline discipline; // Disciplina de serviço
+    private final int concurrency; // Número máximo de requisições atendidas ao mesmo tempo (0 para ilimitado)
+    private final Queue<Entry> queue; // Requisições à espera de atendimento
+    private long nextSequence; // Sequência usada para manter a ordem de chegada
+    private int busy; // Requisições em atendimento
+    private long requests; // Total de requisições recebidas
+    private long served; // Requisições que já começaram a ser atendidas depois de esperar na fila
+    private long totalWait; // Tempo total de espera na fila das requisições atendidas
+    private int maxQueueLength; // Maior tamanho atingido pela fila
+
+    // Requisição enfileirada
+    private static final class Entry implements Comparable<Entry> {
+        private final int units; // Duração da requisição, em quanta
+        private final long sequence; // Ordem de chegada
+        private final long time; // Instante em que a requisição entrou na fila
+        private final Process process; // Processo bloqueado
+
+        private Entry(int units, long sequence, long time, Process process) {
+            this.units = units;
+            this.sequence = sequence;
+            this.time = time;
+            this.process = process;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byUnits = Integer.compare(units, other.units); // Usado apenas pela disciplina SJF
+            return byUnits != 0 ? byUnits : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    // Construtor que inicializa o dispositivo ocioso
+    public IoDevice(String name, Discipline discipline, int concurrency) {
+        if (concurrency < 0) {
+            throw new IllegalArgumentException("Device concurrency must not be negative: " + name); // Lança exceção se a concorrência for inválida
+        }
+        this.name = name;
+        this.discipline = discipline;
+        this.concurrency = concurrency;
+        this.queue = discipline == Discipline.SJF ? new PriorityQueue<>() : new ArrayDeque<>();
+    }
+
+    // Lê dispositivos no formato "nome:concorrência[:fifo|sjf]", separados por vírgulas
+    public static List<IoDevice> parse(String specs) {
+        List<IoDevice> devices = new ArrayList<>();
+        for (String spec : specs.split(",")) {
+            String[] fields = spec.trim().split(":");
+            if (fields.length < 2 || fields.length > 3 || fields[0].isEmpty()) {
+                throw new IllegalArgumentException("Invalid device specification: " + spec); // Lança exceção se o formato for inválido
+            }
+            Discipline discipline = fields.length == 3 ? Discipline.valueOf(fields[2].toUpperCase()) : Discipline.FIFO;
+            devices.add(new IoDevice(fields[0], discipline, Integer.parseInt(fields[1])));
+        }
+        return devices;
+    }
+
+    // Recebe uma requisição; retorna true se ela puder ser atendida imediatamente, ou a enfileira e retorna false
+    public synchronized boolean request(Process process, int units, long now) {
+        requests++;
+        if (concurrency == 0 || busy < concurrency) {
+            busy++;
+            return true;
+        }
+        queue.add(new Entry(units, nextSequence++, now, process));
+        maxQueueLength = Math.max(maxQueueLength, queue.size());
+        return false;
+    }
+
+    // Encerra um atendimento e retorna o próximo processo a ser atendido, que passa a ocupar a vaga (null se a fila estiver vazia)
+    public synchronized Process release(long now) {
+        Entry next = queue.poll();
+        if (next == null) {
+            busy--;
+            return null;
+        }
+        served++;
+        totalWait += now - next.time;
+        return next.process;
+    }
+
+    // Restaura uma requisição em atendimento
+    public synchronized void restoreBusy() {
+        busy++;
+    }
+
+    // Restaura uma requisição enfileirada; deve ser chamado na ordem de queued()
+    public synchronized void restoreQueued(Process process, int units, long time) {
+        queue.add(new Entry(units, nextSequence++, time, process));
+    }
+
+    // Retorna uma cópia dos processos enfileirados, na ordem de atendimento
+    public synchronized List<Process> queued() {
+        List<Entry> entries = new ArrayList<>(queue);
+        if (discipline == Discipline.SJF) {
+            entries.sort(null); // A ordem de iteração do heap não é a de atendimento
+        }
+        List<Process> processes = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            processes.add(entry.process);
+        }
+        return processes;
+    }
+
+    // Retorna o nome do dispositivo
+    public String getName() {
+        return name;
+    }
+
+    // Retorna a disciplina de serviço
+    public Discipline getDiscipline() {
+        return discipline;
+    }
+
+    // Retorna o número máximo de requisições atendidas ao mesmo tempo (0 para ilimitado)
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    // Retorna o número de requisições em atendimento
+    public synchronized int getBusy() {
+        return busy;
+    }
+
+    // Retorna o número de requisições enfileiradas
+    public synchronized int getQueueLength() {
+        return queue.size();
+    }
+
+    // Grava as estatísticas do dispositivo; a ocupação e a fila são reconstruídas a partir dos processos
+    public synchronized void writeState(DataOutput out) throws IOException {
+        out.writeLong(requests);
+        out.writeLong(served);
+        out.writeLong(totalWait);
+        out.writeInt(maxQueueLength);
+    }
+
+    // Lê as estatísticas escritas por writeState
+    public synchronized void readState(DataInput in) throws IOException {
+        requests = in.readLong();
+        served = in.readLong();
+        totalWait = in.readLong();
+        maxQueueLength = in.readInt();
+    }
+
+    // Retorna a configuração e as estatísticas do dispositivo em JSON
+    public synchronized String toJson() {
+        return String.format(Locale.ROOT, "{\"name\":\"%s\",\"discipline\":\"%s\",\"concurrency\":%d,\"requests\":%d,\"queued\":%d,\"meanQueueWait\":%.3f,\"maxQueueLength\":%d}",
+                name, discipline.name().toLowerCase(), concurrency, requests, queue.size(), served == 0 ? 0.0 : (double) totalWait / served, maxQueueLength);
+    }
+}
@@ -0,0 +1,54 @@
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.HashMap; // Implementação de mapa baseada em tabela hash.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.Map; // Interface que representa um mapa de chaves e valores.
+
+// Registro global dos nomes de dispositivos de E/S. Os programas compilados guardam o índice do dispositivo no operando
+// do bloqueio, então o mesmo nome precisa ter o mesmo índice em todas as simulações da JVM; o índice 0 é o dispositivo padrão.
+public final class IoDeviceRegistry {
+    public static final String DEFAULT_DEVICE = "default"; // Dispositivo dos bloqueios sem nome: sem fila e sem limite de concorrência
+
+    private static final List<String> names = new ArrayList<>(); // Nomes na ordem dos índices
+    private static final Map<String, Integer> indexes = new HashMap<>(); // Índice de cada nome
+
+    static {
+        indexOf(DEFAULT_DEVICE);
+    }
+
+    // Construtor privado: a classe contém apenas métodos estáticos
+    private IoDeviceRegistry() {
+    }
+
+    // Retorna o índice do dispositivo, registrando o nome se ele ainda não existir
+    public static synchronized int indexOf(String name) {
+        Integer index = indexes.get(name);
+        if (index == null) {
+            if (names.size() > ProgramCode.MAX_DEVICE) {
+                throw new IllegalArgumentException("Too many I/O devices, cannot register " + name); // Lança exceção se o índice não couber no operando
+            }
+            index = names.size();
+            names.add(name);
+            indexes.put(name, index);
+        }
+        return index;
+    }
+
+    // Retorna o nome do dispositivo com o índice informado
+    public static synchronized String nameOf(int index) {
+        return names.get(index);
+    }
+
+    // Retorna uma cópia dos nomes registrados, na ordem dos índices
+    public static synchronized List<String> names() {
+        return new ArrayList<>(names);
+    }
+
+    // Registra os nomes de um checkpoint na ordem gravada; falha se algum índice já pertencer a outro dispositivo
+    public static synchronized void restore(List<String> savedNames) {
+        for (int i = 0; i < savedNames.size(); i++) {
+            if (i < names.size() ? !names.get(i).equals(savedNames.get(i)) : indexOf(savedNames.get(i)) != i) {
+                throw new IllegalStateException("I/O device " + savedNames.get(i) + " has a different index in this JVM"); // Lança exceção se os índices divergirem
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+// Política original do simulador: processos CPU-bound voltam com prioridade 0 e processos I/O-bound ganham prioridade a cada retorno de E/S
+public class IoPriorityPolicy implements SchedulingPolicy {
+    // Retorna o nome da política
+    @Override
+    public String getName() {
+        return "priority";
+    }
+
+    // Processos admitidos mantêm a prioridade padrão
+    @Override
+    public void onAdmitted(Process process) {
+    }
+
+    // Cada despacho executa um único quantum
+    @Override
+    public int getTimeSlice(Process process) {
+        return 1;
+    }
+
+    // Reseta a prioridade do processo CPU-bound
+    @Override
+    public void onCpuBurst(Process process, boolean sliceExpired) {
+        process.setPriority(0);
+    }
+
+    // Aumenta a prioridade do processo I/O-bound
+    @Override
+    public void onIoCompleted(Process process) {
+        process.setPriority(process.getPriority() + 1);
+    }
+
+    // Não há reajuste periódico
+    @Override
+    public int getBoostInterval() {
+        return 0;
+    }
+
+    // Não há reajuste periódico
+    @Override
+    public void boost(Process process) {
+    }
+}
@@ -0,0 +1,61 @@
+import java.io.BufferedWriter; // Escritor com buffer.
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.io.UncheckedIOException; // Exceção não verificada que encapsula uma IOException.
+import java.nio.charset.StandardCharsets; // Conjuntos de caracteres padrão.
+import java.nio.file.Files; // Utilitários para manipulação de arquivos.
+import java.nio.file.Path; // Representa o caminho de um arquivo.
+
+// Destino que grava cada evento como uma linha JSON ({"seq":..,"time":..,"message":".."}), fora da thread dos escalonadores
+public class JsonlFileSink implements EventSink {
+    private final BufferedWriter writer; // Escritor do arquivo
+    private final StringBuilder line; // Linha reutilizada entre eventos
+
+    // Construtor que cria (ou substitui) o arquivo informado
+    public JsonlFileSink(Path path) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        this.line = new StringBuilder();
+    }
+
+    // Grava o evento como uma linha JSON
+    @Override
+    public void write(long sequence, long timestamp, String message) {
+        line.setLength(0);
+        line.append("{\"seq\":").append(sequence).append(",\"time\":").append(timestamp).append(",\"message\":\"");
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c)); // Escapa caracteres de controle
+            } else {
+                line.append(c);
+            }
+        }
+        line.append("\"}\n");
+        try {
+            writer.append(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Grava o buffer no arquivo ao fim de cada lote
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Fecha o arquivo
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
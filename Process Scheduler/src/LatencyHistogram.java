@@ -0,0 +1,135 @@
+import java.io.DataInput; // Interface para ler tipos primitivos de um fluxo binário.
+import java.io.DataOutput; // Interface para escrever tipos primitivos em um fluxo binário.
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.util.concurrent.atomic.AtomicLong; // Contador atômico de 64 bits.
+import java.util.concurrent.atomic.AtomicLongArray; // Array de contadores atômicos.
+
+// Histograma log-linear de valores não negativos (no estilo do HdrHistogram): cada potência de 2 é dividida em 32 faixas,
+// com erro relativo de no máximo ~3%. O registro não aloca memória e pode ser feito por vários threads.
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5; // 2^5 = 32 faixas por potência de 2
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS; // Cobre todos os valores positivos de long
+
+    private final AtomicLongArray counts; // Contagem por faixa
+    private final AtomicLong count; // Número de valores registrados
+    private final AtomicLong sum; // Soma dos valores registrados
+    private final AtomicLong max; // Maior valor registrado
+
+    // Construtor que inicializa o histograma vazio
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.count = new AtomicLong();
+        this.sum = new AtomicLong();
+        this.max = new AtomicLong();
+    }
+
+    // Registra um valor (valores negativos são tratados como zero)
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(v));
+        count.incrementAndGet();
+        sum.addAndGet(v);
+        long current;
+        while (v > (current = max.get()) && !max.compareAndSet(current, v)) {
+            // Tenta novamente se outro thread atualizou o máximo
+        }
+    }
+
+    // Retorna o número de valores registrados
+    public long getCount() {
+        return count.get();
+    }
+
+    // Retorna a média dos valores registrados
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    // Retorna o maior valor registrado
+    public long getMax() {
+        return max.get();
+    }
+
+    // Retorna o valor abaixo do qual estão percentile% dos valores registrados (limite superior da faixa)
+    public long getPercentile(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * n)); // Posição do valor procurado
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= target) {
+                return Math.min(upperBound(bucket), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    // Descarta todos os valores registrados
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts.set(bucket, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    // Escreve o histograma em um fluxo binário, apenas com as faixas não vazias
+    public void writeState(DataOutput out) throws IOException {
+        int used = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            if (counts.get(bucket) != 0) {
+                used++;
+            }
+        }
+        out.writeInt(used);
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long bucketCount = counts.get(bucket);
+            if (bucketCount != 0) {
+                out.writeShort(bucket);
+                out.writeLong(bucketCount);
+            }
+        }
+        out.writeLong(count.get());
+        out.writeLong(sum.get());
+        out.writeLong(max.get());
+    }
+
+    // Substitui o conteúdo do histograma pelo que foi escrito por writeState
+    public void readState(DataInput in) throws IOException {
+        reset();
+        int used = in.readInt();
+        for (int i = 0; i < used; i++) {
+            int bucket = in.readUnsignedShort();
+            counts.set(bucket, in.readLong());
+        }
+        count.set(in.readLong());
+        sum.set(in.readLong());
+        max.set(in.readLong());
+    }
+
+    // Retorna a faixa de um valor
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value; // Valores pequenos têm faixa exata
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // Retorna o maior valor que cai na faixa informada
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -1,52 +1,174 @@
 import java.util.Queue; // Importa a interface Queue
-import java.util.LinkedList; // Importa a implementação LinkedList
-import java.util.concurrent.Executors; // Importa a classe Executors para gerenciar threads
-import java.util.concurrent.ScheduledExecutorService; // Importa a interface ScheduledExecutorService
-import java.util.concurrent.TimeUnit; // Importa a enumeração TimeUnit para especificar unidades de tempo
+import java.util.Set; // Importa a interface Set
+import java.util.concurrent.ConcurrentHashMap; // Importa o mapa concorrente, usado para criar conjuntos concorrentes
+import java.util.concurrent.ConcurrentLinkedQueue; // Importa a fila concorrente sem bloqueios
+import java.util.concurrent.atomic.AtomicBoolean; // Importa o indicador atômico
+import java.util.concurrent.atomic.AtomicInteger; // Importa o contador atômico
 import java.util.function.Consumer; // Importa a interface Consumer para aceitar funções lambda
 
 public class LongTermScheduler extends Thread implements InterSchedulerInterface, NotificationInterface {
-    private final Queue<Process> processQueue; // Fila de processos a serem escalonados
+    private final Queue<Process> cpuBoundQueue; // Fila de processos CPU-bound a serem escalonados (vários produtores, um consumidor)
+    private final Queue<Process> ioBoundQueue; // Fila de processos I/O-bound a serem escalonados
+    private final AtomicInteger queuedProcesses; // Tamanho das filas, pois size() da fila concorrente é O(n)
+    private final AtomicBoolean admissionPending; // Indica se já há uma admissão agendada, para agrupar os pedidos
+    private final Set<Process> pendingArrivals; // Processos com chegada agendada que ainda não chegaram
+    private long admissionTime; // Instante da admissão agendada
+    private long admissionSequence; // Sequência da admissão agendada
     private final ShortTermScheduler shortTermScheduler; // Referência ao escalonador de curto prazo
+    private final int maxLoad; // Grau máximo de multiprogramação do escalonador de curto prazo
     private final Consumer<String> outputConsumer; // Consumidor de saída para mensagens de status
-    private final ScheduledExecutorService scheduler; // Serviço de agendamento para executar tarefas periodicamente
+    private final SimulationClock clock; // Relógio compartilhado com o escalonador de curto prazo
 
     // Construtor que inicializa as variáveis
-    public LongTermScheduler(ShortTermScheduler shortTermScheduler, Consumer<String> outputConsumer) {
-        this.processQueue = new LinkedList<>(); // Inicializa a fila de processos
+    public LongTermScheduler(ShortTermScheduler shortTermScheduler, int maxLoad, Consumer<String> outputConsumer) {
+        if (maxLoad < 1) {
+            throw new IllegalArgumentException("Max load must be at least 1"); // Lança exceção se a carga máxima for inválida
+        }
+        this.cpuBoundQueue = new ConcurrentLinkedQueue<>(); // Inicializa a fila de processos CPU-bound
+        this.ioBoundQueue = new ConcurrentLinkedQueue<>(); // Inicializa a fila de processos I/O-bound
+        this.queuedProcesses = new AtomicInteger(); // Inicializa o contador das filas
+        this.admissionPending = new AtomicBoolean(); // Nenhuma admissão agendada
+        this.pendingArrivals = ConcurrentHashMap.newKeySet(); // Nenhuma chegada agendada
         this.shortTermScheduler = shortTermScheduler; // Configura o escalonador de curto prazo
+        this.maxLoad = maxLoad; // Configura a carga máxima
         this.outputConsumer = outputConsumer; // Configura o consumidor de saída
-        this.scheduler = Executors.newScheduledThreadPool(1); // Cria um agendador com um único thread
+        this.clock = shortTermScheduler.getClock(); // Usa o mesmo relógio do escalonador de curto prazo
+        shortTermScheduler.setCapacityListener(this::requestAdmission); // Admite novos processos quando o curto prazo libera capacidade
     }
 
     // Método que é chamado quando o thread é iniciado
     @Override
     public void run() {
-        // Agendador que chama o método scheduleProcesses a cada segundo
-        scheduler.scheduleAtFixedRate(this::scheduleProcesses, 0, 1, TimeUnit.SECONDS);
+        requestAdmission(); // Admite os processos que já estiverem na fila
     }
 
-    // Método que move processos da fila de longo prazo para a de curto prazo
+    // Método que agenda uma admissão, agrupando pedidos feitos antes de ela ocorrer
+    public void requestAdmission() {
+        if (admissionPending.compareAndSet(false, true)) {
+            admissionTime = clock.now(); // Guardado para o checkpoint
+            admissionSequence = clock.schedule(EventType.ADMISSION, this::scheduleProcesses, 0);
+        }
+    }
+
+    // Método que move processos da fila de longo prazo para a de curto prazo até atingir a carga máxima
     private void scheduleProcesses() {
-        // outputConsumer.accept("Scheduling processes..."); // Opcional: exibe mensagem de agendamento
-        if (!processQueue.isEmpty() && shortTermScheduler.getProcessLoad() < 10) { // Verifica se há processos na fila e se há espaço no escalonador de curto prazo
-            Process process = processQueue.poll(); // Remove o processo da fila de longo prazo
+        admissionPending.set(false); // Pedidos feitos a partir daqui agendam uma nova admissão
+        while (shortTermScheduler.getProcessLoad() < maxLoad) { // Verifica se há espaço no escalonador de curto prazo
+            Process process = nextProcess(); // Remove o processo da fila de longo prazo, se houver
+            if (process == null) {
+                return;
+            }
+            queuedProcesses.decrementAndGet(); // Atualiza o tamanho das filas
+            process.setAdmissionTime(clock.now()); // Registra o instante de admissão
             shortTermScheduler.addProcess(process); // Adiciona o processo ao escalonador de curto prazo
             outputConsumer.accept("Process moved to short term scheduler: " + process.getId()); // Exibe mensagem informando que o processo foi movido
         }
     }
 
+    // Método que escolhe o próximo processo a admitir de acordo com a mistura atual:
+    // se há menos processos prontos que CPUs, prefere CPU-bound para mantê-las ocupadas; caso contrário, prefere I/O-bound
+    private Process nextProcess() {
+        boolean preferCpuBound = shortTermScheduler.getReadyCount() < shortTermScheduler.getCpuCount();
+        Process process = preferCpuBound ? cpuBoundQueue.poll() : ioBoundQueue.poll();
+        if (process == null) {
+            process = preferCpuBound ? ioBoundQueue.poll() : cpuBoundQueue.poll(); // Usa a outra fila se a preferida estiver vazia
+        }
+        return process;
+    }
+
     // Método para adicionar um processo à fila de longo prazo
     @Override
     public void addProcess(Process process) {
-        processQueue.add(process); // Adiciona o processo à fila
+        process.setArrivalTime(clock.now()); // Registra o instante de chegada
+        process.setState(ProcessState.WAITING); // O processo aguarda a admissão
+        TraceRecorder recorder = shortTermScheduler.getTraceRecorder(); // O trace é compartilhado com o curto prazo
+        if (recorder != null) {
+            recorder.record(TraceEventType.ARRIVE, clock.now(), process, -1);
+        }
+        enqueue(process); // Adiciona o processo à fila correspondente
         outputConsumer.accept("Process added to long term scheduler: " + process.getId()); // Exibe mensagem informando que o processo foi adicionado
+        requestAdmission(); // Admite o processo imediatamente se houver capacidade
+    }
+
+    // Método que classifica o processo pelo seu programa e o adiciona à fila correspondente
+    private void enqueue(Process process) {
+        if (process.getProgram().isCpuBound()) { // Classificação calculada uma vez por programa
+            cpuBoundQueue.add(process);
+        } else {
+            ioBoundQueue.add(process);
+        }
+        queuedProcesses.incrementAndGet(); // Atualiza o tamanho das filas
+    }
+
+    // Método que agenda a chegada de um processo ao escalonador de longo prazo no instante informado
+    public void scheduleArrival(Process process, long arrivalTime) {
+        long time = Math.max(clock.now(), arrivalTime);
+        pendingArrivals.add(process); // O processo fica registrado até chegar
+        process.setPendingEvent(time, clock.schedule(EventType.ARRIVAL, () -> arrive(process), time - clock.now()));
+    }
+
+    // Método chamado quando uma chegada agendada ocorre
+    private void arrive(Process process) {
+        pendingArrivals.remove(process);
+        addProcess(process);
+    }
+
+    // Retorna a fila de processos CPU-bound aguardando admissão
+    public Queue<Process> getCpuBoundQueue() {
+        return cpuBoundQueue;
+    }
+
+    // Retorna a fila de processos I/O-bound aguardando admissão
+    public Queue<Process> getIoBoundQueue() {
+        return ioBoundQueue;
+    }
+
+    // Retorna os processos com chegada agendada que ainda não chegaram
+    public Set<Process> getPendingArrivals() {
+        return pendingArrivals;
+    }
+
+    // Verifica se há uma admissão agendada
+    public boolean isAdmissionPending() {
+        return admissionPending.get();
+    }
+
+    // Retorna o instante da admissão agendada
+    public long getAdmissionTime() {
+        return admissionTime;
+    }
+
+    // Retorna a sequência da admissão agendada
+    public long getAdmissionSequence() {
+        return admissionSequence;
+    }
+
+    // Restaura um processo na fila de longo prazo, sem alterar sua contabilização nem pedir admissão
+    public void restoreWaiting(Process process) {
+        enqueue(process);
+    }
+
+    // Reagenda a chegada de um processo no instante guardado
+    public void resumeArrival(Process process) {
+        scheduleArrival(process, process.getPendingEventTime());
+    }
+
+    // Reagenda a admissão pendente no instante informado
+    public void resumeAdmission(long time) {
+        admissionPending.set(true);
+        admissionTime = time;
+        admissionSequence = clock.schedule(EventType.ADMISSION, this::scheduleProcesses, time - clock.now());
     }
 
     // Método para obter a carga de processos na fila de longo prazo
     @Override
     public int getProcessLoad() {
-        return processQueue.size(); // Retorna o número de processos na fila
+        return queuedProcesses.get(); // Retorna o número de processos nas filas
+    }
+
+    // Retorna o grau máximo de multiprogramação
+    public int getMaxLoad() {
+        return maxLoad;
     }
 
     // Método para exibir informações
@@ -0,0 +1,150 @@
+import java.util.Locale; // Usado para formatar números com ponto decimal.
+
+// Cópia imutável das métricas da simulação em um instante; tempos em milissegundos do relógio da simulação
+public class MetricsSnapshot {
+    private final long elapsedTime; // Tempo decorrido desde o início da simulação
+    private final long finished; // Processos finalizados
+    private final long dispatches; // Despachos realizados
+    private final double throughput; // Processos finalizados por segundo
+    private final double cpuUtilization; // Fração do tempo em que as CPUs estiveram ocupadas
+    private final Distribution turnaround; // Tempo entre chegada e finalização
+    private final Distribution waiting; // Tempo na fila de prontos, sem a espera na fila de longo prazo
+    private final Distribution admission; // Tempo na fila de longo prazo, entre chegada e admissão
+    private final Distribution response; // Tempo entre chegada e primeiro despacho
+    private final Distribution readyQueueLength; // Tamanho da fila de prontos a cada despacho
+
+    // Resumo de um histograma
+    public static class Distribution {
+        private final long count; // Número de valores
+        private final double mean; // Média
+        private final long p50; // Mediana
+        private final long p99; // Percentil 99
+        private final long max; // Máximo
+
+        // Construtor que resume o histograma informado
+        public Distribution(LatencyHistogram histogram) {
+            this.count = histogram.getCount();
+            this.mean = histogram.getMean();
+            this.p50 = histogram.getPercentile(50);
+            this.p99 = histogram.getPercentile(99);
+            this.max = histogram.getMax();
+        }
+
+        // Retorna o número de valores
+        public long getCount() {
+            return count;
+        }
+
+        // Retorna a média
+        public double getMean() {
+            return mean;
+        }
+
+        // Retorna a mediana
+        public long getP50() {
+            return p50;
+        }
+
+        // Retorna o percentil 99
+        public long getP99() {
+            return p99;
+        }
+
+        // Retorna o máximo
+        public long getMax() {
+            return max;
+        }
+
+        // Formata o resumo como um objeto JSON
+        public String toJson() {
+            return String.format(Locale.ROOT, "{\"count\":%d,\"mean\":%.3f,\"p50\":%d,\"p99\":%d,\"max\":%d}", count, mean, p50, p99, max);
+        }
+
+        // Formata o resumo para exibição
+        @Override
+        public String toString() {
+            return String.format("mean=%.1f p50=%d p99=%d max=%d", mean, p50, p99, max);
+        }
+    }
+
+    // Construtor que inicializa todas as métricas
+    public MetricsSnapshot(long elapsedTime, long finished, long dispatches, double throughput, double cpuUtilization,
+            Distribution turnaround, Distribution waiting, Distribution admission, Distribution response, Distribution readyQueueLength) {
+        this.elapsedTime = elapsedTime;
+        this.finished = finished;
+        this.dispatches = dispatches;
+        this.throughput = throughput;
+        this.cpuUtilization = cpuUtilization;
+        this.turnaround = turnaround;
+        this.waiting = waiting;
+        this.admission = admission;
+        this.response = response;
+        this.readyQueueLength = readyQueueLength;
+    }
+
+    // Retorna o tempo decorrido
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    // Retorna o número de processos finalizados
+    public long getFinished() {
+        return finished;
+    }
+
+    // Retorna o número de despachos
+    public long getDispatches() {
+        return dispatches;
+    }
+
+    // Retorna a vazão em processos por segundo
+    public double getThroughput() {
+        return throughput;
+    }
+
+    // Retorna a utilização das CPUs (entre 0 e 1)
+    public double getCpuUtilization() {
+        return cpuUtilization;
+    }
+
+    // Retorna a distribuição do tempo de retorno
+    public Distribution getTurnaround() {
+        return turnaround;
+    }
+
+    // Retorna a distribuição do tempo de espera na fila de prontos
+    public Distribution getWaiting() {
+        return waiting;
+    }
+
+    // Retorna a distribuição do tempo de espera na fila de longo prazo
+    public Distribution getAdmission() {
+        return admission;
+    }
+
+    // Retorna a distribuição do tempo de resposta
+    public Distribution getResponse() {
+        return response;
+    }
+
+    // Retorna a distribuição do tamanho da fila de prontos
+    public Distribution getReadyQueueLength() {
+        return readyQueueLength;
+    }
+
+    // Formata as métricas como um objeto JSON
+    public String toJson() {
+        return String.format(Locale.ROOT, "{\"elapsedTime\":%d,\"finished\":%d,\"dispatches\":%d,\"throughput\":%.6f,\"cpuUtilization\":%.6f,"
+                + "\"turnaround\":%s,\"waiting\":%s,\"admission\":%s,\"response\":%s,\"readyQueueLength\":%s}",
+                elapsedTime, finished, dispatches, throughput, cpuUtilization, turnaround.toJson(), waiting.toJson(), admission.toJson(),
+                response.toJson(), readyQueueLength.toJson());
+    }
+
+    // Formata as métricas para exibição
+    @Override
+    public String toString() {
+        return String.format("elapsed=%dms finished=%d throughput=%.3f/s cpu=%.1f%%%n"
+                + "turnaround: %s%nwaiting: %s%nadmission: %s%nresponse: %s%nready queue: %s",
+                elapsedTime, finished, throughput, cpuUtilization * 100, turnaround, waiting, admission, response, readyQueueLength);
+    }
+}
@@ -0,0 +1,69 @@
+// Política de filas multinível com realimentação (MLFQ): processos começam no nível mais alto,
+// descem de nível ao usar a fatia inteira e são promovidos periodicamente ao topo para evitar estagnação.
+// O nível n corresponde à prioridade (levels - 1 - n) e tem fatia de 2^n quanta.
+public class MultilevelFeedbackPolicy implements SchedulingPolicy {
+    private final int levels; // Número de níveis
+    private final int boostInterval; // Intervalo, em quanta, entre promoções ao nível mais alto
+
+    // Construtor com 4 níveis e promoção a cada 50 quanta
+    public MultilevelFeedbackPolicy() {
+        this(4, 50);
+    }
+
+    // Construtor que inicializa o número de níveis e o intervalo de promoção
+    public MultilevelFeedbackPolicy(int levels, int boostInterval) {
+        if (levels < 1 || levels > 16) {
+            throw new IllegalArgumentException("MLFQ levels must be between 1 and 16"); // Lança exceção se o número de níveis for inválido
+        }
+        this.levels = levels;
+        this.boostInterval = boostInterval;
+    }
+
+    // Retorna o nome da política
+    @Override
+    public String getName() {
+        return "mlfq";
+    }
+
+    // Processos admitidos começam no nível mais alto
+    @Override
+    public void onAdmitted(Process process) {
+        process.setPriority(levels - 1);
+    }
+
+    // A fatia dobra a cada nível
+    @Override
+    public int getTimeSlice(Process process) {
+        return 1 << level(process);
+    }
+
+    // O processo desce um nível se usou a fatia inteira
+    @Override
+    public void onCpuBurst(Process process, boolean sliceExpired) {
+        if (sliceExpired && process.getPriority() > 0) {
+            process.setPriority(process.getPriority() - 1);
+        }
+    }
+
+    // O processo que bloqueou antes do fim da fatia permanece no mesmo nível
+    @Override
+    public void onIoCompleted(Process process) {
+    }
+
+    // Retorna o intervalo de promoção
+    @Override
+    public int getBoostInterval() {
+        return boostInterval;
+    }
+
+    // Promove o processo ao nível mais alto
+    @Override
+    public void boost(Process process) {
+        process.setPriority(levels - 1);
+    }
+
+    // Retorna o nível do processo, limitado aos níveis existentes
+    private int level(Process process) {
+        return levels - 1 - Math.max(0, Math.min(levels - 1, process.getPriority()));
+    }
+}
@@ -0,0 +1,171 @@
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.Arrays; // Utilitários para arrays.
+import java.util.Collections; // Utilitários para coleções.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.Locale; // Usado para formatar números com ponto decimal.
+import java.util.Map; // Interface que representa um mapa de chaves e valores.
+import java.util.concurrent.Callable; // Tarefa que retorna um resultado.
+import java.util.concurrent.ExecutionException; // Exceção lançada por uma tarefa que falhou.
+import java.util.concurrent.ForkJoinPool; // Pool de threads com roubo de trabalho.
+import java.util.concurrent.Future; // Resultado de uma tarefa assíncrona.
+
+// Varredura de parâmetros: executa uma simulação em lote para cada combinação de quanta, cargas máximas, números de CPUs
+// e políticas, em paralelo em um ForkJoinPool, e imprime as métricas de cada configuração em JSON (uma por linha), seguidas
+// da melhor configuração segundo o objetivo escolhido. Cada execução cria seus próprios escalonadores, relógio, dispositivos
+// e processos, e gera a carga novamente a partir da mesma semente; apenas os programas compilados, imutáveis, são compartilhados.
+public class ParameterSweep {
+    private static final String USAGE = "Usage: java ParameterSweep [--quantum ms,...] [--max-load n,...] [--cpus n,...] [--policy priority|mlfq,...]\n"
+            + "    [--objective turnaround|waiting|response|throughput] [--parallelism n]\n"
+            + "    [--processes n] [--cpu-bound fraction] [--cpu-burst quanta] [--io-burst quanta] [--bursts n]\n"
+            + "    [--arrival-rate per-second] [--seed n] [--programs dir|file] [--devices name:concurrency[:fifo|sjf],...]";
+    private static final String[] OPTIONAL = {"programs", "devices"}; // Opções sem valor padrão
+    private static final String[] OBJECTIVES = {"turnaround", "waiting", "response", "throughput"}; // Métricas que podem ser otimizadas
+
+    // Combinação de parâmetros de uma execução
+    private static final class Configuration {
+        private final int quantum; // Quantum de tempo
+        private final int maxLoad; // Carga máxima do escalonador de curto prazo
+        private final int cpuCount; // Número de CPUs simuladas
+        private final String policy; // Nome da política de escalonamento
+
+        private Configuration(int quantum, int maxLoad, int cpuCount, String policy) {
+            this.quantum = quantum;
+            this.maxLoad = maxLoad;
+            this.cpuCount = cpuCount;
+            this.policy = policy;
+        }
+
+        private String toJson() {
+            return "{\"quantum\":" + quantum + ",\"maxLoad\":" + maxLoad + ",\"cpus\":" + cpuCount + ",\"policy\":\"" + policy + "\"}";
+        }
+    }
+
+    // Resultado de uma execução
+    private static final class Result {
+        private final Configuration configuration; // Parâmetros da execução
+        private final MetricsSnapshot metrics; // Métricas ao fim da simulação
+        private final String devices; // Estatísticas dos dispositivos de E/S, em JSON
+        private final long wallTime; // Duração real da execução, em milissegundos
+
+        private Result(Configuration configuration, MetricsSnapshot metrics, String devices, long wallTime) {
+            this.configuration = configuration;
+            this.metrics = metrics;
+            this.devices = devices;
+            this.wallTime = wallTime;
+        }
+
+        private String toJson() {
+            return "{\"config\":" + configuration.toJson() + ",\"wallTimeMs\":" + wallTime + ",\"metrics\":" + metrics.toJson() + ",\"devices\":" + devices + "}";
+        }
+    }
+
+    // Método principal que lê as opções, executa a varredura e imprime os resultados
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options;
+        List<Configuration> grid;
+        try {
+            options = parseOptions(args);
+            grid = createGrid(options);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE); // Exibe mensagem de uso
+            System.exit(1); // Encerra o programa
+            return;
+        }
+
+        List<String> loadErrors = Collections.synchronizedList(new ArrayList<>()); // Erros reportados pelos threads de análise
+        List<Process> programs = options.containsKey("programs") ? HeadlessSimulator.loadPrograms(options.get("programs"), loadErrors) : Collections.emptyList();
+        for (String error : loadErrors) {
+            System.err.println(error);
+        }
+
+        List<Callable<Result>> runs = new ArrayList<>();
+        for (Configuration configuration : grid) {
+            runs.add(() -> run(configuration, options, programs));
+        }
+        ForkJoinPool pool = new ForkJoinPool(Integer.parseInt(options.get("parallelism")));
+        List<Result> results = new ArrayList<>();
+        try {
+            for (Future<Result> future : pool.invokeAll(runs)) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed: " + e.getCause(), e.getCause()); // Uma execução com erro invalida a varredura
+        } finally {
+            pool.shutdown();
+        }
+
+        String objective = options.get("objective");
+        Result best = null;
+        for (Result result : results) {
+            System.out.println(result.toJson()); // Na ordem da grade
+            if (best == null || score(result, objective) < score(best, objective)) {
+                best = result;
+            }
+        }
+        System.out.println(String.format(Locale.ROOT, "{\"objective\":\"%s\",\"best\":%s,\"value\":%.6f}", objective, best.configuration.toJson(),
+                Math.abs(score(best, objective))));
+    }
+
+    // Executa uma simulação isolada com a configuração informada
+    private static Result run(Configuration configuration, Map<String, String> options, List<Process> programs) {
+        BatchSimulation simulation = new BatchSimulation(configuration.quantum, configuration.maxLoad, configuration.cpuCount,
+                SchedulingPolicy.forName(configuration.policy), message -> { });
+        HeadlessSimulator.configureDevices(simulation, options);
+        for (Process program : programs) {
+            simulation.submit(new Process(program.getId(), program.getProgram())); // Processo novo sobre o programa compartilhado
+        }
+        HeadlessSimulator.createGenerator(options).generate(Integer.parseInt(options.get("processes")), simulation::submit);
+        long start = System.nanoTime();
+        simulation.run();
+        long wallTime = (System.nanoTime() - start) / 1_000_000;
+        ShortTermScheduler shortTermScheduler = simulation.getShortTermScheduler();
+        return new Result(configuration, shortTermScheduler.getMetricsSnapshot(), HeadlessSimulator.devicesToJson(shortTermScheduler), wallTime);
+    }
+
+    // Retorna o valor a minimizar segundo o objetivo (a vazão é negada, pois deve ser maximizada)
+    private static double score(Result result, String objective) {
+        MetricsSnapshot metrics = result.metrics;
+        switch (objective) {
+            case "turnaround":
+                return metrics.getTurnaround().getMean();
+            case "waiting":
+                return metrics.getWaiting().getMean();
+            case "response":
+                return metrics.getResponse().getMean();
+            case "throughput":
+                return -metrics.getThroughput();
+            default:
+                throw new IllegalArgumentException("Unknown objective: " + objective); // Lança exceção se o objetivo não existir
+        }
+    }
+
+    // Cria todas as combinações dos valores informados, na ordem quantum, carga máxima, CPUs e política
+    private static List<Configuration> createGrid(Map<String, String> options) {
+        List<Configuration> grid = new ArrayList<>();
+        for (String quantum : options.get("quantum").split(",")) {
+            for (String maxLoad : options.get("max-load").split(",")) {
+                for (String cpus : options.get("cpus").split(",")) {
+                    for (String policy : options.get("policy").split(",")) {
+                        SchedulingPolicy.forName(policy); // Valida o nome antes de iniciar a varredura
+                        grid.add(new Configuration(Integer.parseInt(quantum.trim()), Integer.parseInt(maxLoad.trim()), Integer.parseInt(cpus.trim()), policy.trim()));
+                    }
+                }
+            }
+        }
+        return grid;
+    }
+
+    // Lê as opções no formato --nome valor; as opções da grade aceitam listas separadas por vírgulas
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = HeadlessSimulator.defaults();
+        options.put("objective", "turnaround");
+        options.put("parallelism", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        HeadlessSimulator.parseOptions(args, options, OPTIONAL);
+        if (!Arrays.asList(OBJECTIVES).contains(options.get("objective"))) {
+            throw new IllegalArgumentException("Unknown objective: " + options.get("objective")); // Lança exceção se o objetivo não existir
+        }
+        return options;
+    }
+}
@@ -1,21 +1,47 @@
-import java.util.List; // Interface que representa uma lista de elementos.
+import java.io.DataInput; // Interface para ler tipos primitivos de um fluxo binário.
+import java.io.DataOutput; // Interface para escrever tipos primitivos em um fluxo binário.
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
 
+// Estado de um processo. O programa é compartilhado (ProgramImage) e o processo guarda apenas o seu progresso e a sua
+// contabilização; os campos são mantidos no mínimo para que cargas com milhões de processos caibam na memória.
 public class Process {
+    public static final int MAX_CPU = Short.MAX_VALUE; // Maior índice de CPU que cabe nos campos de núcleo
+
     private final String id; // Identificador único do processo
-    private final List<String> instructions; // Lista de instruções do processo
-    private int instructionPointer; // Apontador para a próxima instrução a ser executada
+    private final ProgramImage program; // Programa executado pelo processo, compartilhado com os demais processos do mesmo programa
+    private int instructionPointer; // Apontador para a próxima instrução a ser executada (em linhas do programa)
+    private int codePointer; // Índice da palavra atual em code
+    private int executedInRun; // Quantas instruções "execute" da palavra atual já foram executadas
     private long cpuTime; // Tempo total de CPU utilizado pelo processo
     private long ioTime; // Tempo total de I/O utilizado pelo processo
     private int priority; // Prioridade do processo
+    private short affinity; // Núcleo ao qual o processo está fixado (-1 para nenhum)
+    private short lastCpu; // Último núcleo em que o processo executou (-1 se ainda não executou)
+    private long arrivalTime; // Instante em que o processo chegou ao escalonador de longo prazo
+    private long admissionTime; // Instante em que o processo foi admitido no escalonador de curto prazo
+    private long firstDispatchTime; // Instante do primeiro despacho (-1 se ainda não foi despachado)
+    private long completionTime; // Instante em que o processo terminou
+    private long stateSince; // Instante em que o processo entrou na fila de prontos, começou a execução ou começou o bloqueio atual
+    private long waitingTime; // Tempo total passado na fila de prontos
+    private ProcessState state; // Estado atual do processo
+    private long pendingEventTime; // Instante do evento pendente do processo (chegada, fim da execução ou fim do bloqueio)
+    private long pendingEventSequence; // Sequência do evento pendente, usada para reproduzir a ordem entre eventos do mesmo instante
+    private boolean fullSlice; // Indica se a execução atual usa a fatia de tempo inteira
 
-    // Construtor que inicializa o processo com seu ID e lista de instruções
-    public Process(String id, List<String> instructions) {
+    // Construtor que inicializa o processo com seu ID e programa
+    public Process(String id, ProgramImage program) {
         this.id = id; // Inicializa o ID do processo
-        this.instructions = instructions; // Inicializa a lista de instruções
+        this.program = program; // Inicializa o programa compartilhado
         this.instructionPointer = 0; // Inicializa o apontador de instruções
+        this.codePointer = 0; // Inicializa o índice da palavra atual
+        this.executedInRun = 0; // Inicializa o progresso dentro da palavra atual
         this.cpuTime = 0; // Inicializa o tempo de CPU
         this.ioTime = 0; // Inicializa o tempo de I/O
         this.priority = 0; // Inicializa a prioridade padrão
+        this.affinity = -1; // Inicializa sem afinidade
+        this.lastCpu = -1; // Inicializa sem núcleo anterior
+        this.firstDispatchTime = -1; // Inicializa sem despacho
+        this.state = ProcessState.NEW; // Inicializa como novo
     }
 
     // Retorna o ID do processo
@@ -23,9 +49,9 @@ public class Process {
         return id;
     }
 
-    // Retorna a lista de instruções do processo
-    public List<String> getInstructions() {
-        return instructions;
+    // Retorna o programa executado pelo processo
+    public ProgramImage getProgram() {
+        return program;
     }
 
     // Retorna o apontador de instruções atual
@@ -35,17 +61,39 @@ public class Process {
 
     // Incrementa o apontador de instruções
     public void incrementInstructionPointer() {
-        instructionPointer++;
+        incrementInstructionPointer(1);
+    }
+
+    // Avança o apontador de instruções; count pode ser maior que 1 apenas dentro de uma sequência de "execute"
+    public void incrementInstructionPointer(int count) {
+        instructionPointer += count;
+        int word = program.word(codePointer);
+        if (ProgramCode.opcode(word) == ProgramCode.EXECUTE && (executedInRun += count) < ProgramCode.operand(word)) {
+            return; // Ainda há instruções "execute" na palavra atual
+        }
+        codePointer++; // Avança para a próxima palavra
+        executedInRun = 0;
     }
 
     // Verifica se há mais instruções a serem executadas
     public boolean hasNextInstruction() {
-        return instructionPointer < instructions.size();
+        return codePointer < program.length();
+    }
+
+    // Retorna o opcode da próxima instrução a ser executada
+    public int getNextOpcode() {
+        return ProgramCode.opcode(program.word(codePointer));
+    }
+
+    // Retorna o operando da próxima instrução (para EXECUTE, quantas instruções "execute" consecutivas ainda restam)
+    public int getNextOperand() {
+        int word = program.word(codePointer);
+        return ProgramCode.opcode(word) == ProgramCode.EXECUTE ? ProgramCode.operand(word) - executedInRun : ProgramCode.operand(word);
     }
 
-    // Retorna a próxima instrução a ser executada
-    public String getNextInstruction() {
-        return instructions.get(instructionPointer);
+    // Retorna o operando do bloqueio em andamento (dispositivo e quanta); válido enquanto o processo está bloqueado
+    public int getBlockOperand() {
+        return ProgramCode.operand(program.word(codePointer - 1));
     }
 
     // Adiciona tempo de CPU ao processo
@@ -82,4 +130,173 @@ public class Process {
     public void setPriority(int priority) {
         this.priority = priority;
     }
+
+    // Retorna o núcleo ao qual o processo está fixado (-1 para nenhum)
+    public int getAffinity() {
+        return affinity;
+    }
+
+    // Fixa o processo a um núcleo (-1 remove a afinidade)
+    public void setAffinity(int affinity) {
+        this.affinity = toCpuField(affinity);
+    }
+
+    // Retorna o último núcleo em que o processo executou
+    public int getLastCpu() {
+        return lastCpu;
+    }
+
+    // Define o último núcleo em que o processo executou
+    public void setLastCpu(int lastCpu) {
+        this.lastCpu = toCpuField(lastCpu);
+    }
+
+    // Converte um índice de CPU para o formato dos campos de núcleo
+    private static short toCpuField(int cpu) {
+        if (cpu < -1 || cpu > MAX_CPU) {
+            throw new IllegalArgumentException("CPU index out of range: " + cpu); // Lança exceção se o índice não couber no campo
+        }
+        return (short) cpu;
+    }
+
+    // Retorna o instante de chegada ao escalonador de longo prazo
+    public long getArrivalTime() {
+        return arrivalTime;
+    }
+
+    // Registra o instante de chegada ao escalonador de longo prazo
+    public void setArrivalTime(long arrivalTime) {
+        this.arrivalTime = arrivalTime;
+    }
+
+    // Retorna o instante de admissão no escalonador de curto prazo
+    public long getAdmissionTime() {
+        return admissionTime;
+    }
+
+    // Registra o instante de admissão no escalonador de curto prazo
+    public void setAdmissionTime(long admissionTime) {
+        this.admissionTime = admissionTime;
+    }
+
+    // Retorna o instante do primeiro despacho (-1 se ainda não foi despachado)
+    public long getFirstDispatchTime() {
+        return firstDispatchTime;
+    }
+
+    // Retorna o instante de finalização
+    public long getCompletionTime() {
+        return completionTime;
+    }
+
+    // Registra o instante de finalização
+    public void setCompletionTime(long completionTime) {
+        this.completionTime = completionTime;
+    }
+
+    // Registra a entrada na fila de prontos
+    public void markReady(long now) {
+        this.stateSince = now;
+    }
+
+    // Registra um despacho, acumulando o tempo de espera desde a entrada na fila de prontos; retorna essa espera
+    public long markDispatched(long now) {
+        long waited = now - stateSince;
+        waitingTime += waited;
+        if (firstDispatchTime < 0) {
+            firstDispatchTime = now;
+        }
+        return waited;
+    }
+
+    // Retorna o tempo total passado na fila de prontos
+    public long getWaitingTime() {
+        return waitingTime;
+    }
+
+    // Retorna o estado atual do processo
+    public ProcessState getState() {
+        return state;
+    }
+
+    // Define o estado atual do processo
+    public void setState(ProcessState state) {
+        this.state = state;
+    }
+
+    // Registra o evento pendente do processo
+    public void setPendingEvent(long time, long sequence) {
+        this.pendingEventTime = time;
+        this.pendingEventSequence = sequence;
+    }
+
+    // Retorna o instante do evento pendente
+    public long getPendingEventTime() {
+        return pendingEventTime;
+    }
+
+    // Retorna a sequência do evento pendente
+    public long getPendingEventSequence() {
+        return pendingEventSequence;
+    }
+
+    // Registra o início de uma execução ou de um bloqueio
+    public void startBurst(long now, boolean fullSlice) {
+        this.stateSince = now;
+        this.fullSlice = fullSlice;
+    }
+
+    // Retorna o instante em que a execução ou o bloqueio atual começou
+    public long getBurstStartTime() {
+        return stateSince;
+    }
+
+    // Verifica se a execução atual usa a fatia de tempo inteira
+    public boolean isFullSlice() {
+        return fullSlice;
+    }
+
+    // Escreve o estado de execução e a contabilização do processo (sem o ID e o programa) em um fluxo binário
+    public void writeState(DataOutput out) throws IOException {
+        out.writeByte(state.ordinal());
+        out.writeInt(instructionPointer);
+        out.writeInt(codePointer);
+        out.writeInt(executedInRun);
+        out.writeLong(cpuTime);
+        out.writeLong(ioTime);
+        out.writeInt(priority);
+        out.writeShort(affinity);
+        out.writeShort(lastCpu);
+        out.writeLong(arrivalTime);
+        out.writeLong(admissionTime);
+        out.writeLong(firstDispatchTime);
+        out.writeLong(completionTime);
+        out.writeLong(stateSince);
+        out.writeLong(waitingTime);
+        out.writeLong(pendingEventTime);
+        out.writeLong(pendingEventSequence);
+        out.writeBoolean(fullSlice);
+    }
+
+    // Lê o estado escrito por writeState
+    public void readState(DataInput in) throws IOException {
+        state = ProcessState.values()[in.readByte()];
+        instructionPointer = in.readInt();
+        codePointer = in.readInt();
+        executedInRun = in.readInt();
+        cpuTime = in.readLong();
+        ioTime = in.readLong();
+        priority = in.readInt();
+        affinity = in.readShort();
+        lastCpu = in.readShort();
+        arrivalTime = in.readLong();
+        admissionTime = in.readLong();
+        firstDispatchTime = in.readLong();
+        completionTime = in.readLong();
+        stateSince = in.readLong();
+        waitingTime = in.readLong();
+        pendingEventTime = in.readLong();
+        pendingEventSequence = in.readLong();
+        fullSlice = in.readBoolean();
+    }
 }
@@ -0,0 +1,9 @@
+// Estados de um processo ao longo da simulação
+public enum ProcessState {
+    NEW, // Chegada agendada, ainda fora do escalonador de longo prazo
+    WAITING, // Na fila do escalonador de longo prazo, aguardando admissão
+    READY, // Na fila de prontos de uma CPU
+    RUNNING, // Em execução em uma CPU
+    BLOCKED, // Aguardando o fim de uma operação de entrada e saída
+    FINISHED // Finalizado
+}
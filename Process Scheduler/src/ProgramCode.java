@@ -0,0 +1,61 @@
+// Codificação compacta das instruções: cada instrução ocupa um int com o opcode nos 8 bits superiores e o operando nos 24 inferiores
+public final class ProgramCode {
+    public static final int EXECUTE = 1; // Executa uma sequência de quanta na CPU (operando: número de instruções "execute" consecutivas)
+    public static final int BLOCK = 2; // Bloqueia o processo para E/S (operando: dispositivo nos 8 bits superiores e número de quanta nos 16 inferiores)
+    public static final int MAX_OPERAND = (1 << 24) - 1; // Maior operando representável
+    public static final int MAX_BLOCK_UNITS = (1 << 16) - 1; // Maior número de quanta de um bloqueio
+    public static final int MAX_DEVICE = (1 << 8) - 1; // Maior índice de dispositivo de E/S
+
+    private ProgramCode() {
+    }
+
+    // Codifica um opcode e seu operando em um único int
+    public static int encode(int opcode, int operand) {
+        if (operand < 0 || operand > MAX_OPERAND) {
+            throw new IllegalArgumentException("Operand out of range: " + operand); // Lança exceção se o operando não couber em 24 bits
+        }
+        return (opcode << 24) | operand;
+    }
+
+    // Extrai o opcode de uma instrução codificada
+    public static int opcode(int word) {
+        return word >>> 24;
+    }
+
+    // Extrai o operando de uma instrução codificada
+    public static int operand(int word) {
+        return word & MAX_OPERAND;
+    }
+
+    // Monta o operando de um bloqueio no dispositivo informado (0 é o dispositivo padrão)
+    public static int blockOperand(int device, int units) {
+        if (device < 0 || device > MAX_DEVICE || units < 0 || units > MAX_BLOCK_UNITS) {
+            throw new IllegalArgumentException("Block operand out of range: device " + device + ", units " + units); // Lança exceção se não couber no operando
+        }
+        return (device << 16) | units;
+    }
+
+    // Extrai o dispositivo do operando de um bloqueio
+    public static int blockDevice(int operand) {
+        return operand >>> 16;
+    }
+
+    // Extrai o número de quanta do operando de um bloqueio
+    public static int blockUnits(int operand) {
+        return operand & MAX_BLOCK_UNITS;
+    }
+
+    // Verifica se o programa passa mais quanta executando do que bloqueado
+    public static boolean isCpuBound(int[] code) {
+        long cpuUnits = 0;
+        long ioUnits = 0;
+        for (int word : code) {
+            if (opcode(word) == EXECUTE) {
+                cpuUnits += operand(word);
+            } else {
+                ioUnits += blockUnits(operand(word));
+            }
+        }
+        return cpuUnits >= ioUnits;
+    }
+}
@@ -0,0 +1,26 @@
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+
+// Exceção lançada quando um programa não segue a linguagem de definição de programas simulados
+public class ProgramFormatException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final String source; // Arquivo (ou origem) em que o erro foi encontrado
+    private final int line; // Linha em que o erro foi encontrado
+
+    // Construtor que monta a mensagem com a origem e a linha do erro
+    public ProgramFormatException(String source, int line, String message) {
+        super(source + ":" + line + ": " + message);
+        this.source = source;
+        this.line = line;
+    }
+
+    // Retorna a origem em que o erro foi encontrado
+    public String getSource() {
+        return source;
+    }
+
+    // Retorna a linha em que o erro foi encontrado
+    public int getLine() {
+        return line;
+    }
+}
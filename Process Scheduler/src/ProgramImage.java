@@ -0,0 +1,68 @@
+import java.lang.ref.WeakReference; // Referência que não impede a coleta do programa internado.
+import java.util.Arrays; // Utilitários para arrays.
+import java.util.Map; // Interface que representa um mapa de chaves e valores.
+import java.util.WeakHashMap; // Mapa com chaves fracas usado como tabela de programas internados.
+
+// Programa compilado e imutável, compartilhado por todos os processos que o executam. Os programas lidos de arquivos são
+// internados pelo conteúdo: submeter o mesmo programa milhares de vezes guarda uma única cópia das instruções, e a classificação
+// CPU-bound/I/O-bound é calculada uma só vez. A tabela guarda apenas referências fracas: um programa continua internado
+// enquanto algum processo (ou outro objeto) o referencia e é coletado junto com o último deles, de modo que simulações
+// sucessivas na mesma JVM não acumulam os programas das anteriores.
+public final class ProgramImage {
+    private static final Map<ProgramImage, WeakReference<ProgramImage>> INTERNED = new WeakHashMap<>(); // Programas internados, pelo conteúdo; acesso sincronizado
+
+    private final int[] code; // Instruções no formato de ProgramCode; nunca são alteradas
+    private final int hash; // Hash do conteúdo
+    private final boolean cpuBound; // Indica se o programa passa mais quanta executando do que bloqueado
+
+    // Construtor que cria um programa a partir das instruções compiladas; o array passa a pertencer ao programa e não deve ser alterado
+    public ProgramImage(int[] code) {
+        this.code = code;
+        this.hash = Arrays.hashCode(code);
+        this.cpuBound = ProgramCode.isCpuBound(code);
+    }
+
+    // Retorna o programa internado com as instruções informadas, criando-o se ainda não existir ou se o anterior já foi coletado
+    public static ProgramImage intern(int[] code) {
+        ProgramImage image = new ProgramImage(code);
+        synchronized (INTERNED) { // WeakHashMap não é thread-safe; os leitores paralelos chamam este método uma vez por arquivo
+            WeakReference<ProgramImage> reference = INTERNED.get(image);
+            ProgramImage existing = reference != null ? reference.get() : null;
+            if (existing != null) {
+                return existing;
+            }
+            INTERNED.put(image, new WeakReference<>(image)); // O valor também é fraco, senão a entrada manteria a própria chave viva
+            return image;
+        }
+    }
+
+    // Retorna o número de palavras do programa
+    public int length() {
+        return code.length;
+    }
+
+    // Retorna a palavra na posição informada
+    public int word(int index) {
+        return code[index];
+    }
+
+    // Verifica se o programa passa mais quanta executando do que bloqueado
+    public boolean isCpuBound() {
+        return cpuBound;
+    }
+
+    // Compara os programas pelo conteúdo
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof ProgramImage && hash == ((ProgramImage) other).hash && Arrays.equals(code, ((ProgramImage) other).code);
+    }
+
+    // Retorna o hash do conteúdo
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
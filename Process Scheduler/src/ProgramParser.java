@@ -1,29 +1,292 @@
-import java.io.BufferedReader; // Classe para ler texto de uma entrada de caracteres, armazenando caracteres em buffer para fornecer uma leitura eficiente.
-import java.io.FileReader; // Classe para ler caracteres de arquivos.
 import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.nio.ByteBuffer; // Buffer de bytes usado para ler o conteúdo dos arquivos.
+import java.nio.channels.FileChannel; // Canal de arquivo usado para leitura direta ou mapeada em memória.
+import java.nio.charset.StandardCharsets; // Conjuntos de caracteres padrão.
+import java.nio.file.Path; // Representa o caminho de um arquivo.
+import java.nio.file.Paths; // Fornece métodos para criar caminhos.
+import java.nio.file.StandardOpenOption; // Opções de abertura de arquivos.
 import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.Arrays; // Utilitários para manipulação de arrays.
 import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.function.Consumer; // Fornece a interface funcional Consumer usada para passar funções lambda.
 
 public class ProgramParser {
+    private static final long MAP_THRESHOLD = 1 << 20; // Arquivos maiores que 1 MiB são mapeados em memória em vez de copiados
+
     // Método estático que analisa um arquivo e cria um processo a partir dele
     public static Process parseFile(String fileName) throws IOException {
-        // Tenta abrir e ler o arquivo usando um BufferedReader
-        try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
-            String line = reader.readLine().trim(); // Lê a primeira linha e remove espaços em branco
-            if (!line.startsWith("program ")) { // Verifica se a linha começa com "program "
-                throw new IllegalArgumentException("Invalid program header"); // Lança exceção se o cabeçalho do programa for inválido
-            }
-
-            String programName = line.split(" ")[1]; // Extrai o nome do programa
-            List<String> instructions = new ArrayList<>(); // Cria uma lista para armazenar as instruções
-            reader.readLine(); // Pula a linha "begin"
-            
-            // Lê as linhas até encontrar "end"
-            while (!(line = reader.readLine().trim()).equals("end")) {
-                instructions.add(line); // Adiciona cada linha à lista de instruções
-            }
-            
-            return new Process(programName, instructions); // Retorna um novo processo com o nome e as instruções
+        List<Process> processes = parseAll(readFile(Paths.get(fileName)), fileName); // Lê e analisa o arquivo
+        if (processes.size() != 1) { // Verifica se o arquivo contém exatamente um programa
+            throw new ProgramFormatException(fileName, 1, "expected one program, found " + processes.size());
+        }
+        return processes.get(0); // Retorna o processo com o nome e as instruções compiladas
+    }
+
+    // Método estático que lê um arquivo inteiro por meio de um canal, mapeando-o em memória se for grande
+    public static ByteBuffer readFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size(); // Tamanho do arquivo
+            if (size > MAP_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size); // Mapeia o arquivo em memória
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size); // Cria um buffer do tamanho do arquivo
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Lê até preencher o buffer
+            }
+            buffer.flip(); // Prepara o buffer para leitura
+            return buffer;
+        }
+    }
+
+    // Método estático que analisa todos os programas contidos em um buffer (um arquivo pode conter vários programas concatenados)
+    public static List<Process> parseAll(ByteBuffer buffer, String source) throws ProgramFormatException {
+        return parseAll(buffer, source, 1);
+    }
+
+    // Método estático que analisa os programas de um buffer cuja primeira linha é firstLine na origem
+    public static List<Process> parseAll(ByteBuffer buffer, String source, int firstLine) throws ProgramFormatException {
+        List<Process> processes = new ArrayList<>(); // Lista de processos encontrados
+        List<ProgramFormatException> errors = new ArrayList<>(); // Erros encontrados
+        parseAll(buffer, source, firstLine, processes::add, errors::add);
+        if (!errors.isEmpty()) {
+            throw errors.get(0); // Lança o primeiro erro encontrado
+        }
+        return processes;
+    }
+
+    // Método estático que entrega cada programa analisado ao consumidor assim que fica pronto;
+    // um programa inválido é reportado e a análise continua no próximo cabeçalho "program"
+    public static int parseAll(ByteBuffer buffer, String source, int firstLine, Consumer<Process> sink, Consumer<ProgramFormatException> errors) {
+        int parsed = 0; // Número de programas analisados com sucesso
+        LineReader lines = new LineReader(buffer, firstLine); // Leitor de linhas sobre o buffer
+        boolean hasLine = lines.nextNonBlank(); // Ignora linhas em branco entre programas
+        while (hasLine) {
+            int header = lines.getLineNumber(); // Linha do cabeçalho do programa atual
+            try {
+                sink.accept(parseProgram(lines, source)); // Analisa o próximo programa
+                parsed++;
+                hasLine = lines.nextNonBlank();
+            } catch (ProgramFormatException e) {
+                errors.accept(e); // Reporta o erro
+                // Retoma a análise no próximo cabeçalho "program"
+                while (hasLine && (lines.getLineNumber() == header || !lines.startsWith("program "))) {
+                    hasLine = lines.nextNonBlank();
+                }
+            }
+        }
+        return parsed;
+    }
+
+    // Método que analisa um programa a partir da linha "program" atual do leitor
+    private static Process parseProgram(LineReader lines, String source) throws ProgramFormatException {
+        if (!lines.startsWith("program ")) { // Verifica se a linha começa com "program "
+            throw new ProgramFormatException(source, lines.getLineNumber(), "invalid program header"); // Lança exceção se o cabeçalho do programa for inválido
+        }
+        String programName = lines.firstToken(8); // Extrai o nome do programa
+        if (!lines.nextNonBlank() || !lines.equalsKeyword("begin")) { // Verifica a linha "begin"
+            throw new ProgramFormatException(source, lines.getLineNumber(), "expected 'begin' after program " + programName);
+        }
+
+        CodeBuilder code = new CodeBuilder(); // Acumula as instruções compiladas
+        // Lê as linhas até encontrar "end"
+        while (lines.nextNonBlank()) {
+            if (lines.equalsKeyword("end")) {
+                // Retorna um novo processo; o nome e o programa são internados, pois o mesmo arquivo costuma ser submetido muitas vezes
+                return new Process(programName.intern(), ProgramImage.intern(code.toArray()));
+            } else if (lines.equalsKeyword("execute")) {
+                code.execute(); // Acumula a instrução "execute"
+            } else if (lines.startsWith("block ")) {
+                int units = lines.parseOperand(6); // Extrai o número de quanta do bloqueio
+                if (units < 0 || units > ProgramCode.MAX_BLOCK_UNITS) {
+                    throw new ProgramFormatException(source, lines.getLineNumber(), "invalid block operand");
+                }
+                String device = lines.afterOperand(6); // Dispositivo opcional ("block N nome")
+                if (device != null && (device.indexOf(' ') >= 0 || device.indexOf('\t') >= 0)) {
+                    throw new ProgramFormatException(source, lines.getLineNumber(), "invalid device name: " + device);
+                }
+                try {
+                    code.block(ProgramCode.blockOperand(device == null ? 0 : IoDeviceRegistry.indexOf(device), units)); // Adiciona a instrução de bloqueio
+                } catch (IllegalArgumentException e) {
+                    throw new ProgramFormatException(source, lines.getLineNumber(), e.getMessage()); // Dispositivos demais
+                }
+            } else {
+                throw new ProgramFormatException(source, lines.getLineNumber(), "invalid instruction: " + lines.text(0));
+            }
+        }
+        throw new ProgramFormatException(source, lines.getLineNumber(), "missing 'end' in program " + programName); // O arquivo terminou antes do "end"
+    }
+
+    // Acumula instruções no formato de ProgramCode, agrupando instruções "execute" consecutivas em uma única palavra
+    private static final class CodeBuilder {
+        private int[] code = new int[16]; // Palavras geradas
+        private int length = 0; // Número de palavras geradas
+        private int executeRun = 0; // Número de "execute" consecutivos ainda não emitidos
+
+        private void execute() {
+            if (executeRun == ProgramCode.MAX_OPERAND) { // Divide sequências que não cabem em um operando
+                flushExecuteRun();
+            }
+            executeRun++;
+        }
+
+        private void block(int operand) {
+            flushExecuteRun(); // Emite a sequência de "execute" pendente
+            append(ProgramCode.encode(ProgramCode.BLOCK, operand));
+        }
+
+        private void flushExecuteRun() {
+            if (executeRun > 0) {
+                append(ProgramCode.encode(ProgramCode.EXECUTE, executeRun));
+                executeRun = 0;
+            }
+        }
+
+        private void append(int word) {
+            if (length == code.length) {
+                code = Arrays.copyOf(code, length * 2); // Dobra a capacidade quando necessário
+            }
+            code[length++] = word;
+        }
+
+        private int[] toArray() {
+            flushExecuteRun(); // Emite a última sequência de "execute"
+            return Arrays.copyOf(code, length); // Retorna o código com o tamanho exato
+        }
+    }
+
+    // Percorre as linhas de um buffer diretamente sobre os bytes, sem criar uma String por linha
+    private static final class LineReader {
+        private final ByteBuffer buffer; // Buffer com o conteúdo
+        private int position; // Início da próxima linha
+        private int start; // Início da linha atual (sem espaços)
+        private int end; // Fim da linha atual (sem espaços)
+        private int lineNumber; // Número da linha atual
+
+        private LineReader(ByteBuffer buffer, int firstLine) {
+            this.buffer = buffer;
+            this.position = buffer.position();
+            this.lineNumber = firstLine - 1;
+        }
+
+        // Avança para a próxima linha; retorna false no fim do buffer
+        private boolean next() {
+            int limit = buffer.limit();
+            if (position >= limit) {
+                return false;
+            }
+            int lineEnd = position;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++; // Procura o fim da linha
+            }
+            start = position;
+            end = lineEnd;
+            position = lineEnd + 1;
+            lineNumber++;
+            while (start < end && isSpace(buffer.get(start))) {
+                start++; // Remove espaços do início
+            }
+            while (end > start && isSpace(buffer.get(end - 1))) {
+                end--; // Remove espaços (e '\r') do fim
+            }
+            return true;
+        }
+
+        // Avança até a próxima linha que não esteja em branco
+        private boolean nextNonBlank() {
+            while (next()) {
+                if (!isBlank()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isBlank() {
+            return start == end;
+        }
+
+        private boolean startsWith(String prefix) {
+            if (end - start < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (buffer.get(start + i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean equalsKeyword(String keyword) {
+            return end - start == keyword.length() && startsWith(keyword);
+        }
+
+        // Retorna o primeiro termo após o deslocamento informado
+        private String firstToken(int offset) {
+            int from = start + offset;
+            while (from < end && isSpace(buffer.get(from))) {
+                from++;
+            }
+            int to = from;
+            while (to < end && !isSpace(buffer.get(to))) {
+                to++;
+            }
+            return decode(from, to);
+        }
+
+        // Converte em inteiro o primeiro termo após o deslocamento informado; retorna -1 se não for um número válido
+        private int parseOperand(int offset) {
+            int from = skipSpaces(start + offset);
+            if (from == end) {
+                return -1;
+            }
+            long value = 0;
+            for (int i = from; i < end && !isSpace(buffer.get(i)); i++) {
+                byte digit = buffer.get(i);
+                if (digit < '0' || digit > '9' || (value = value * 10 + (digit - '0')) > ProgramCode.MAX_OPERAND) {
+                    return -1;
+                }
+            }
+            return (int) value;
+        }
+
+        // Retorna o texto que segue o primeiro termo após o deslocamento informado, ou null se não houver
+        private String afterOperand(int offset) {
+            int from = skipSpaces(start + offset);
+            while (from < end && !isSpace(buffer.get(from))) {
+                from++; // Pula o operando
+            }
+            from = skipSpaces(from);
+            return from == end ? null : decode(from, end);
+        }
+
+        // Retorna a primeira posição a partir de from que não seja espaço
+        private int skipSpaces(int from) {
+            while (from < end && isSpace(buffer.get(from))) {
+                from++;
+            }
+            return from;
+        }
+
+        // Retorna o texto da linha a partir do deslocamento informado
+        private String text(int offset) {
+            return decode(start + offset, end);
+        }
+
+        private String decode(int from, int to) {
+            byte[] bytes = new byte[to - from];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(from + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int getLineNumber() {
+            return lineNumber;
+        }
+
+        private static boolean isSpace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
         }
     }
 }
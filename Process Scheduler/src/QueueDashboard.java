@@ -0,0 +1,189 @@
+import java.awt.BasicStroke; // Define a espessura das linhas desenhadas.
+import java.awt.BorderLayout; // Layout com regiões norte, sul, leste, oeste e centro.
+import java.awt.Color; // Representa uma cor.
+import java.awt.Dimension; // Representa largura e altura.
+import java.awt.Graphics; // Contexto de desenho.
+import java.awt.Graphics2D; // Contexto de desenho com recursos adicionais.
+import java.awt.GridLayout; // Layout em grade de células iguais.
+import java.awt.RenderingHints; // Opções de qualidade do desenho.
+import java.util.function.Supplier; // Fornece a interface funcional Supplier usada para obter valores.
+import javax.swing.AbstractListModel; // Base para modelos de lista do Swing.
+import javax.swing.BorderFactory; // Cria bordas para componentes Swing.
+import javax.swing.JComponent; // Base dos componentes Swing.
+import javax.swing.JList; // Lista do Swing.
+import javax.swing.JPanel; // Painel do Swing.
+import javax.swing.JScrollPane; // Painel de rolagem do Swing.
+import javax.swing.Timer; // Temporizador que executa tarefas na thread de eventos do Swing.
+import javax.swing.border.TitledBorder; // Borda com título.
+
+// Painel com as filas da simulação e gráficos de utilização e vazão, atualizado em intervalo fixo a partir da última cópia
+// publicada das filas. A thread de eventos apenas lê a cópia imutável, sem bloquear as filas dos escalonadores e sem redesenhar
+// a cada evento. As listas são virtualizadas: o modelo monta apenas o texto das linhas visíveis, e a célula de tamanho fixo evita
+// medir todas as linhas, de modo que filas com centenas de milhares de processos não pesam na interface.
+public class QueueDashboard extends JPanel {
+    private static final long serialVersionUID = 1L;
+    private static final int REFRESH_PERIOD = 250; // Intervalo entre atualizações, em milissegundos
+    private static final int HISTORY = 240; // Pontos mantidos nos gráficos
+    private static final String PROTOTYPE_CELL = "program_000000_CPU queued on device 0000000"; // Define a largura e a altura das células
+    private static final String[] TITLES = {"Submitted", "Long term", "Ready", "Running", "Blocked", "Finished"}; // Títulos das listas
+
+    private final Supplier<QueueSnapshot> source; // Fonte da última cópia publicada
+    private final ListingModel[] models; // Modelos das listas, na ordem de TITLES
+    private final TitledBorder[] borders; // Bordas das listas, cujos títulos mostram o tamanho de cada fila
+    private final LineChart utilizationChart; // Fração das CPUs ocupadas
+    private final LineChart throughputChart; // Processos finalizados por segundo
+    private final Timer timer; // Temporizador da atualização
+    private QueueSnapshot shown; // Cópia exibida atualmente
+
+    // Modelo de lista sobre uma fila da cópia; o texto de cada linha é montado apenas quando a linha é desenhada
+    private static final class ListingModel extends AbstractListModel<String> {
+        private static final long serialVersionUID = 1L;
+        private QueueSnapshot.Listing listing; // Fila exibida (null antes da primeira cópia)
+
+        // Troca a fila exibida, avisando a lista das linhas removidas, adicionadas e alteradas
+        private void setListing(QueueSnapshot.Listing next) {
+            int oldSize = getSize();
+            listing = next;
+            int newSize = getSize();
+            if (newSize < oldSize) {
+                fireIntervalRemoved(this, newSize, oldSize - 1);
+            } else if (newSize > oldSize) {
+                fireIntervalAdded(this, oldSize, newSize - 1);
+            }
+            if (Math.min(oldSize, newSize) > 0) {
+                fireContentsChanged(this, 0, Math.min(oldSize, newSize) - 1);
+            }
+        }
+
+        @Override
+        public int getSize() {
+            return listing == null ? 0 : listing.size();
+        }
+
+        @Override
+        public String getElementAt(int index) {
+            return listing.describe(index);
+        }
+    }
+
+    // Gráfico de linha com os últimos HISTORY valores
+    private static final class LineChart extends JComponent {
+        private static final long serialVersionUID = 1L;
+        private final String title; // Título do gráfico
+        private final String format; // Formato do último valor
+        private final double fixedMax; // Valor máximo do eixo (0 para ajustar aos valores)
+        private final double[] values; // Valores em um buffer circular
+        private int start; // Posição do valor mais antigo
+        private int count; // Número de valores
+
+        private LineChart(String title, String format, double fixedMax) {
+            this.title = title;
+            this.format = format;
+            this.fixedMax = fixedMax;
+            this.values = new double[HISTORY];
+            setPreferredSize(new Dimension(300, 110));
+        }
+
+        // Adiciona um valor, descartando o mais antigo se o histórico estiver cheio
+        private void add(double value) {
+            values[(start + count) % HISTORY] = value;
+            if (count < HISTORY) {
+                count++;
+            } else {
+                start = (start + 1) % HISTORY;
+            }
+        }
+
+        @Override
+        protected void paintComponent(Graphics graphics) {
+            Graphics2D g = (Graphics2D) graphics.create();
+            int width = getWidth();
+            int height = getHeight();
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setColor(Color.GRAY);
+            g.drawRect(0, 0, width - 1, height - 1);
+            double max = fixedMax;
+            for (int i = 0; fixedMax <= 0 && i < count; i++) {
+                max = Math.max(max, values[(start + i) % HISTORY]);
+            }
+            g.setColor(Color.DARK_GRAY);
+            g.drawString(count == 0 ? title : title + ": " + String.format(format, values[(start + count - 1) % HISTORY]), 6, 14);
+            if (count > 1 && max > 0) {
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g.setStroke(new BasicStroke(1.5f));
+                g.setColor(new Color(0x2E6DB4));
+                int top = 20; // Espaço do título
+                int[] xs = new int[count];
+                int[] ys = new int[count];
+                for (int i = 0; i < count; i++) {
+                    xs[i] = (int) ((long) (width - 1) * (HISTORY - count + i) / (HISTORY - 1)); // Os valores mais recentes ficam à direita
+                    ys[i] = height - 2 - (int) ((height - top - 4) * Math.min(1, values[(start + i) % HISTORY] / max));
+                }
+                g.drawPolyline(xs, ys, count);
+            }
+            g.dispose();
+        }
+    }
+
+    // Construtor que cria as listas e os gráficos; a atualização começa com start()
+    public QueueDashboard(Supplier<QueueSnapshot> source) {
+        super(new BorderLayout(0, 4));
+        this.source = source;
+        this.models = new ListingModel[TITLES.length];
+        this.borders = new TitledBorder[TITLES.length];
+
+        JPanel lists = new JPanel(new GridLayout(1, TITLES.length, 4, 0));
+        for (int i = 0; i < TITLES.length; i++) {
+            models[i] = new ListingModel();
+            JList<String> list = new JList<>(models[i]);
+            list.setPrototypeCellValue(PROTOTYPE_CELL); // Células de tamanho fixo: a lista não mede cada linha
+            JScrollPane scrollPane = new JScrollPane(list);
+            borders[i] = BorderFactory.createTitledBorder(TITLES[i] + " (0)");
+            scrollPane.setBorder(borders[i]);
+            scrollPane.setPreferredSize(new Dimension(160, 200));
+            lists.add(scrollPane);
+        }
+
+        JPanel charts = new JPanel(new GridLayout(1, 2, 4, 0));
+        utilizationChart = new LineChart("CPU utilization", "%.0f%%", 100);
+        throughputChart = new LineChart("Throughput (processes/s)", "%.2f", 0);
+        charts.add(utilizationChart);
+        charts.add(throughputChart);
+
+        add(lists, BorderLayout.CENTER);
+        add(charts, BorderLayout.SOUTH);
+        this.timer = new Timer(REFRESH_PERIOD, e -> refresh());
+    }
+
+    // Inicia a atualização periódica
+    public void start() {
+        timer.start();
+    }
+
+    // Interrompe a atualização periódica
+    public void stop() {
+        timer.stop();
+    }
+
+    // Exibe a última cópia publicada, se for nova; executado na thread de eventos
+    private void refresh() {
+        QueueSnapshot queues = source.get();
+        if (queues == null || queues == shown) {
+            return; // Nada novo a exibir
+        }
+        QueueSnapshot.Listing[] listings = {queues.getSubmission(), queues.getWaiting(), queues.getReady(), queues.getRunning(),
+                queues.getBlocked(), queues.getFinished()};
+        for (int i = 0; i < listings.length; i++) {
+            models[i].setListing(listings[i]);
+            borders[i].setTitle(TITLES[i] + " (" + listings[i].getTotal() + ")"); // A lista de finalizados mostra só os últimos
+        }
+        if (shown != null && queues.getTime() > shown.getTime()) {
+            long interval = queues.getTime() - shown.getTime();
+            utilizationChart.add(100.0 * queues.getRunning().size() / queues.getCpuCount());
+            throughputChart.add((queues.getMetrics().getFinished() - shown.getMetrics().getFinished()) * 1000.0 / interval);
+        }
+        shown = queues;
+        repaint(); // Redesenha as bordas com os novos tamanhos e os gráficos
+    }
+}
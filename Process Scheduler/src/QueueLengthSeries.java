@@ -0,0 +1,104 @@
+import java.io.DataInput; // Interface para ler tipos primitivos de um fluxo binário.
+import java.io.DataOutput; // Interface para escrever tipos primitivos em um fluxo binário.
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.util.concurrent.atomic.AtomicLong; // Contador atômico de 64 bits.
+
+// Série temporal de tamanhos de fila com memória limitada: quando enche, descarta uma amostra a cada duas e dobra o intervalo de amostragem.
+// sample é chamado a cada despacho por todas as CPUs: a verificação do intervalo e a reserva da próxima amostra não usam bloqueio,
+// e só quem reserva a amostra toma o monitor para gravá-la.
+public class QueueLengthSeries {
+    private final long[] times; // Instante de cada amostra
+    private final int[] readyLengths; // Processos prontos em cada amostra
+    private final int[] runningCounts; // Processos em execução em cada amostra
+    private int size; // Número de amostras
+    private volatile long interval; // Intervalo atual entre amostras
+    private final AtomicLong nextSampleTime; // Instante a partir do qual a próxima amostra é registrada
+
+    // Construtor que define a capacidade e o intervalo inicial de amostragem
+    public QueueLengthSeries(int capacity, long interval) {
+        this.times = new long[capacity];
+        this.readyLengths = new int[capacity];
+        this.runningCounts = new int[capacity];
+        this.interval = Math.max(1, interval);
+        this.nextSampleTime = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    // Registra uma amostra se o intervalo desde a anterior já passou; entre as CPUs que chegam ao mesmo tempo, só uma registra
+    public void sample(long now, int ready, int running) {
+        long next = nextSampleTime.get();
+        if (now < next || !nextSampleTime.compareAndSet(next, now + interval)) {
+            return; // Intervalo ainda não passou, ou outra CPU reservou a amostra
+        }
+        synchronized (this) {
+            if (size == times.length) {
+                compact(); // Libera espaço mantendo a cobertura de todo o período
+                nextSampleTime.set(now + interval); // O intervalo dobrou
+            }
+            times[size] = now;
+            readyLengths[size] = ready;
+            runningCounts[size] = running;
+            size++;
+        }
+    }
+
+    // Retorna o número de amostras
+    public synchronized int size() {
+        return size;
+    }
+
+    // Retorna o instante da amostra informada
+    public synchronized long getTime(int index) {
+        return times[index];
+    }
+
+    // Retorna o número de processos prontos na amostra informada
+    public synchronized int getReadyLength(int index) {
+        return readyLengths[index];
+    }
+
+    // Retorna o número de processos em execução na amostra informada
+    public synchronized int getRunningCount(int index) {
+        return runningCounts[index];
+    }
+
+    // Escreve as amostras e o estado da amostragem em um fluxo binário
+    public synchronized void writeState(DataOutput out) throws IOException {
+        out.writeInt(size);
+        out.writeLong(interval);
+        out.writeLong(nextSampleTime.get());
+        for (int i = 0; i < size; i++) {
+            out.writeLong(times[i]);
+            out.writeInt(readyLengths[i]);
+            out.writeInt(runningCounts[i]);
+        }
+    }
+
+    // Substitui as amostras pelas que foram escritas por writeState
+    public synchronized void readState(DataInput in) throws IOException {
+        int samples = in.readInt();
+        if (samples > times.length) {
+            throw new IOException("Queue length series has more samples than its capacity"); // Lança exceção se o checkpoint não couber
+        }
+        size = samples;
+        interval = in.readLong();
+        nextSampleTime.set(in.readLong());
+        for (int i = 0; i < size; i++) {
+            times[i] = in.readLong();
+            readyLengths[i] = in.readInt();
+            runningCounts[i] = in.readInt();
+        }
+    }
+
+    // Mantém uma amostra a cada duas e dobra o intervalo
+    private void compact() {
+        int kept = 0;
+        for (int i = 0; i < size; i += 2) {
+            times[kept] = times[i];
+            readyLengths[kept] = readyLengths[i];
+            runningCounts[kept] = runningCounts[i];
+            kept++;
+        }
+        size = kept;
+        interval *= 2;
+    }
+}
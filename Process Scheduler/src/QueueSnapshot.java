@@ -0,0 +1,203 @@
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.Arrays; // Utilitários para arrays.
+import java.util.Collection; // Interface que representa uma coleção de elementos.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.concurrent.atomic.AtomicLong; // Contador atômico de 64 bits.
+
+// Cópia imutável das filas da simulação em um instante, publicada pelos escalonadores e lida pela interface sem bloquear as filas.
+// Cada fila é guardada em arrays (identificador, rótulo e valor de cada processo), sem referências aos processos, que continuam mudando.
+// A lista de finalizados cresce durante toda a simulação, então a cópia guarda apenas o total e os últimos finalizados: o custo de
+// cada cópia depende dos processos ativos, não dos que já passaram pela simulação.
+public final class QueueSnapshot {
+    private static final AtomicLong CAPTURES = new AtomicLong(); // Numera as cópias na ordem em que começam
+
+    private final long sequence; // Número da cópia; uma cópia com número maior começou depois e não é mais antiga
+    private final long time; // Instante da simulação em que a cópia foi feita
+    private final int cpuCount; // Número de CPUs simuladas
+    private final Listing submission; // Processos submetidos que aguardam o início da simulação
+    private final Listing waiting; // Processos nas filas do escalonador de longo prazo
+    private final Listing ready; // Processos nas filas de prontos, com a CPU de cada um
+    private final Listing running; // Processos em execução, com a CPU de cada um
+    private final Listing blocked; // Processos em E/S, com o fim do atendimento, ou nas filas dos dispositivos
+    private final Listing finished; // Processos finalizados, com o instante de finalização
+    private final MetricsSnapshot metrics; // Métricas no instante da cópia
+
+    // Lista de processos de uma fila; o texto de cada linha só é montado quando a linha é exibida
+    public static final class Listing {
+        private final String[] ids; // Identificadores dos processos
+        private final String[] labels; // Rótulo de cada processo (null para nenhum); os rótulos são compartilhados entre as linhas
+        private final long[] values; // Valor de cada processo (-1 para nenhum)
+        private final long total; // Número de processos na fila, incluindo os que não foram copiados
+
+        private Listing(String[] ids, String[] labels, long[] values, long total) {
+            this.ids = ids;
+            this.labels = labels;
+            this.values = values;
+            this.total = total;
+        }
+
+        // Retorna o número de processos copiados
+        public int size() {
+            return ids.length;
+        }
+
+        // Retorna o número de processos na fila; maior que size() quando só os últimos foram copiados
+        public long getTotal() {
+            return total;
+        }
+
+        // Retorna o identificador do processo na posição informada
+        public String getId(int index) {
+            return ids[index];
+        }
+
+        // Retorna a linha do processo na posição informada
+        public String describe(int index) {
+            String line = ids[index];
+            if (labels[index] != null) {
+                line += " " + labels[index];
+            }
+            return values[index] >= 0 ? line + " " + values[index] : line;
+        }
+    }
+
+    // Acumula as linhas de uma lista
+    private static final class ListingBuilder {
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> labels = new ArrayList<>();
+        private long[] values = new long[16];
+
+        private void add(String id, String label, long value) {
+            if (ids.size() == values.length) {
+                values = Arrays.copyOf(values, values.length * 2); // Dobra a capacidade quando necessário
+            }
+            values[ids.size()] = value;
+            ids.add(id);
+            labels.add(label);
+        }
+
+        private void addAll(Collection<Process> processes, String label) {
+            for (Process process : processes) {
+                add(process.getId(), label, -1);
+            }
+        }
+
+        private Listing build() {
+            return build(ids.size());
+        }
+
+        private Listing build(long total) {
+            return new Listing(ids.toArray(new String[0]), labels.toArray(new String[0]), Arrays.copyOf(values, ids.size()), Math.max(total, ids.size()));
+        }
+    }
+
+    // Construtor privado: as cópias são criadas por capture
+    private QueueSnapshot(long sequence, long time, int cpuCount, Listing submission, Listing waiting, Listing ready, Listing running,
+                          Listing blocked, Listing finished, MetricsSnapshot metrics) {
+        this.sequence = sequence;
+        this.time = time;
+        this.cpuCount = cpuCount;
+        this.submission = submission;
+        this.waiting = waiting;
+        this.ready = ready;
+        this.running = running;
+        this.blocked = blocked;
+        this.finished = finished;
+        this.metrics = metrics;
+    }
+
+    // Copia as filas dos escalonadores; percorre apenas estruturas concorrentes, então pode ser chamado durante a simulação
+    public static QueueSnapshot capture(Collection<Process> submitted, LongTermScheduler longTermScheduler, ShortTermScheduler shortTermScheduler) {
+        long sequence = CAPTURES.incrementAndGet();
+        long time = shortTermScheduler.getClock().now();
+
+        ListingBuilder submission = new ListingBuilder();
+        submission.addAll(submitted, null);
+
+        ListingBuilder waiting = new ListingBuilder();
+        waiting.addAll(longTermScheduler.getCpuBoundQueue(), "CPU-bound");
+        waiting.addAll(longTermScheduler.getIoBoundQueue(), "I/O-bound");
+
+        ListingBuilder ready = new ListingBuilder();
+        ListingBuilder running = new ListingBuilder();
+        for (int i = 0; i < shortTermScheduler.getCpuCount(); i++) {
+            VirtualCpu cpu = shortTermScheduler.getCpu(i);
+            for (Process process : cpu.getRunQueue().snapshot()) { // Na ordem de despacho
+                ready.add(process.getId(), "cpu", i);
+            }
+            Process current = cpu.getRunning();
+            if (current != null) {
+                running.add(current.getId(), "cpu", i);
+            }
+        }
+
+        ListingBuilder blocked = new ListingBuilder();
+        for (Process process : shortTermScheduler.getBlockedProcesses()) {
+            blocked.add(process.getId(), "until", process.getPendingEventTime());
+        }
+        for (IoDevice device : shortTermScheduler.getDevices()) {
+            if (device.getQueueLength() > 0) {
+                blocked.addAll(device.queued(), "queued on " + device.getName());
+            }
+        }
+
+        ListingBuilder finished = new ListingBuilder();
+        int finishedCount = shortTermScheduler.getFinishedCount(); // Lido antes dos recentes, que podem incluir finalizações posteriores
+        for (Process process : shortTermScheduler.getRecentlyFinished()) {
+            finished.add(process.getId(), "at", process.getCompletionTime()); // O instante de finalização não muda mais
+        }
+
+        return new QueueSnapshot(sequence, time, shortTermScheduler.getCpuCount(), submission.build(), waiting.build(), ready.build(), running.build(),
+                blocked.build(), finished.build(finishedCount), shortTermScheduler.getMetrics().snapshot(time));
+    }
+
+    // Retorna o número da cópia, crescente na ordem em que as cópias começam
+    public long getSequence() {
+        return sequence;
+    }
+
+    // Retorna o instante da simulação em que a cópia foi feita
+    public long getTime() {
+        return time;
+    }
+
+    // Retorna o número de CPUs simuladas
+    public int getCpuCount() {
+        return cpuCount;
+    }
+
+    // Retorna os processos submetidos que aguardam o início da simulação
+    public Listing getSubmission() {
+        return submission;
+    }
+
+    // Retorna os processos nas filas do escalonador de longo prazo
+    public Listing getWaiting() {
+        return waiting;
+    }
+
+    // Retorna os processos nas filas de prontos
+    public Listing getReady() {
+        return ready;
+    }
+
+    // Retorna os processos em execução
+    public Listing getRunning() {
+        return running;
+    }
+
+    // Retorna os processos bloqueados
+    public Listing getBlocked() {
+        return blocked;
+    }
+
+    // Retorna o total de processos finalizados e os últimos finalizados
+    public Listing getFinished() {
+        return finished;
+    }
+
+    // Retorna as métricas no instante da cópia
+    public MetricsSnapshot getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,146 @@
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.concurrent.ConcurrentSkipListSet; // Conjunto ordenado e concorrente sem bloqueios.
+import java.util.concurrent.atomic.AtomicInteger; // Contador atômico.
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater; // Operações atômicas sobre um campo int volátil.
+import java.util.concurrent.atomic.AtomicLong; // Contador atômico de 64 bits.
+import java.util.function.Consumer; // Fornece a interface funcional Consumer usada para passar funções lambda.
+
+// Fila de prontos concorrente e sem bloqueios, ordenada por prioridade (maior primeiro) e, em empate, por ordem de chegada.
+// Quem remove ou move uma entrada primeiro a reivindica; entradas reivindicadas são ignoradas pelos demais até saírem da fila,
+// de modo que um processo nunca é entregue duas vezes e o reajuste de prioridades não esvazia a fila.
+public class ReadyQueue {
+    private final ConcurrentSkipListSet<Entry> entries; // Entradas ordenadas da fila
+    private final AtomicLong nextSequence; // Sequência usada para manter a ordem de chegada
+    private final AtomicInteger size; // Tamanho mantido à parte, pois size() do skip list é O(n)
+
+    // Entrada da fila: guarda a prioridade no momento da inserção para que a ordenação nunca mude
+    private static final class Entry implements Comparable<Entry> {
+        private static final AtomicIntegerFieldUpdater<Entry> CLAIMED = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "claimed");
+
+        private final int priority; // Prioridade do processo quando foi inserido
+        private final long sequence; // Ordem de chegada
+        private final Process process; // Processo enfileirado
+        private volatile int claimed; // 1 enquanto a entrada pertence a quem a está removendo ou movendo
+
+        private Entry(int priority, long sequence, Process process) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.process = process;
+        }
+
+        // Reivindica a entrada; retorna false se outro thread já a reivindicou
+        private boolean claim() {
+            return CLAIMED.compareAndSet(this, 0, 1);
+        }
+
+        // Devolve uma entrada reivindicada que permanece na fila
+        private void release() {
+            claimed = 0;
+        }
+
+        // Verifica se a entrada pode ser removida ou movida
+        private boolean isAvailable() {
+            return claimed == 0;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byPriority = Integer.compare(other.priority, priority); // Maior prioridade primeiro
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    // Construtor que inicializa a fila vazia
+    public ReadyQueue() {
+        this.entries = new ConcurrentSkipListSet<>();
+        this.nextSequence = new AtomicLong();
+        this.size = new AtomicInteger();
+    }
+
+    // Adiciona um processo à fila
+    public void add(Process process) {
+        entries.add(new Entry(process.getPriority(), nextSequence.getAndIncrement(), process));
+        size.incrementAndGet();
+    }
+
+    // Remove e retorna o processo de maior prioridade, ou null se a fila estiver vazia
+    public Process poll() {
+        for (Entry entry : entries) {
+            if (entry.claim()) { // Só remove se nenhum outro núcleo levou ou está movendo a entrada
+                return remove(entry);
+            }
+        }
+        return null;
+    }
+
+    // Remove o processo de maior prioridade que não esteja fixado a um núcleo, usado no roubo de trabalho
+    public Process pollStealable() {
+        for (Entry entry : entries) {
+            if (entry.process.getAffinity() < 0 && entry.claim()) {
+                return remove(entry);
+            }
+        }
+        return null;
+    }
+
+    // Remove uma entrada reivindicada e retorna o seu processo
+    private Process remove(Entry entry) {
+        entries.remove(entry);
+        size.decrementAndGet();
+        return entry.process;
+    }
+
+    // Aplica o reajuste informado à prioridade de cada processo da fila e move apenas os que mudaram de prioridade. A nova
+    // entrada é inserida antes de a antiga sair, então a fila nunca parece vazia e o tamanho não muda durante o reajuste
+    public void reprioritize(Consumer<Process> adjustment) {
+        for (Entry entry : entries) {
+            if (!entry.claim()) {
+                continue; // Processo despachado ou roubado durante o reajuste
+            }
+            adjustment.accept(entry.process); // Reajusta a prioridade
+            if (entry.process.getPriority() == entry.priority) {
+                entry.release(); // A posição na fila não muda
+                continue;
+            }
+            entries.add(new Entry(entry.process.getPriority(), nextSequence.getAndIncrement(), entry.process)); // Nova posição
+            entries.remove(entry);
+        }
+    }
+
+    // Verifica se há algum processo que outro núcleo possa roubar
+    public boolean hasStealable() {
+        for (Entry entry : entries) {
+            if (entry.process.getAffinity() < 0 && entry.isAvailable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Verifica se a fila está vazia
+    public boolean isEmpty() {
+        for (Entry entry : entries) {
+            if (entry.isAvailable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Retorna o número de processos na fila
+    public int size() {
+        return size.get();
+    }
+
+    // Retorna uma cópia dos processos enfileirados, na ordem de despacho
+    public List<Process> snapshot() {
+        List<Process> processes = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.isAvailable()) { // Entradas reivindicadas estão saindo da fila ou já foram reinseridas
+                processes.add(entry.process);
+            }
+        }
+        return processes;
+    }
+}
@@ -0,0 +1,245 @@
+import java.util.Set; // Interface que representa um conjunto de elementos.
+import java.util.concurrent.ConcurrentHashMap; // Mapa concorrente, usado para criar conjuntos concorrentes.
+import java.util.concurrent.RejectedExecutionException; // Exceção lançada ao agendar em um executor encerrado.
+import java.util.concurrent.ScheduledFuture; // Resultado de uma tarefa agendada, usado para cancelá-la.
+import java.util.concurrent.ScheduledThreadPoolExecutor; // Executor que pode agendar comandos para execução futura.
+import java.util.concurrent.TimeUnit; // Enum usado para especificar unidades de tempo.
+
+// Relógio de tempo real: os eventos são disparados por um ScheduledThreadPoolExecutor.
+// Os eventos pendentes ficam registrados para que a pausa possa congelá-los, preservando o tempo restante,
+// e para que o encerramento possa descartá-los. O tempo em pausa não conta no instante atual. O atraso de cada evento em relação
+// ao instante pretendido é medido em nanossegundos; eventos periódicos atrasados não são descartados, e sim executados em sequência
+// até alcançar a taxa fixa, e cada período perdido é contado pela instrumentação.
+// Só a pausa, a retomada e o encerramento usam o monitor do relógio: eles publicam um novo estado imutável, lido sem bloqueio por
+// now() e pelo agendamento, e cada evento protege a própria entrega com o seu monitor. Assim, agendar e ler o relógio, feitos a
+// cada submissão e a cada despacho, não disputam um bloqueio global.
+public class RealTimeClock implements SimulationClock {
+    private static final long SHUTDOWN_TIMEOUT = 5000; // Tempo máximo de espera pelos eventos em andamento no encerramento
+
+    private final ScheduledThreadPoolExecutor scheduler; // Serviço de agendamento para executar tarefas
+    private final Set<Thread> clockThreads; // Threads do agendador, que não podem esperar pelo próprio encerramento
+    private final Set<Task> pending; // Eventos agendados que ainda não começaram
+    private volatile State state; // Estado de pausa e encerramento, substituído por inteiro a cada mudança
+    private volatile SchedulerInstrumentation instrumentation; // Recebe o atraso e a duração de cada evento (null para nenhuma)
+
+    // Estado imutável de pausa e encerramento do relógio
+    private static final class State {
+        private final long pausedTime; // Tempo total passado em pausa
+        private final long pausedAt; // Instante do sistema em que a pausa atual começou (-1 se não está em pausa)
+        private final boolean shutdown; // Indica se o relógio foi encerrado
+
+        // Construtor que inicializa o estado
+        private State(long pausedTime, long pausedAt, boolean shutdown) {
+            this.pausedTime = pausedTime;
+            this.pausedAt = pausedAt;
+            this.shutdown = shutdown;
+        }
+
+        // Verifica se o relógio está em pausa
+        private boolean isPaused() {
+            return pausedAt >= 0;
+        }
+    }
+
+    // Evento agendado; cada entrega ao executor recebe um número, e entregas anteriores a uma pausa são ignoradas.
+    // Os campos da entrega são protegidos pelo monitor do próprio evento
+    private final class Task {
+        private final EventType type; // Tipo do evento
+        private final Runnable action; // Ação do evento
+        private final long period; // Período de repetição (0 para eventos únicos)
+        private long dueTime; // Instante do relógio em que o evento deve ocorrer
+        private long dueNanos; // Instante pretendido no System.nanoTime da entrega atual
+        private long submission; // Número da entrega atual ao executor
+        private ScheduledFuture<?> future; // Entrega atual, usada para cancelá-la
+        private boolean running; // Indica se a ação está em execução (ou já executou, para eventos únicos)
+
+        // Construtor que inicializa o evento
+        private Task(EventType type, Runnable action, long period, long dueTime) {
+            this.type = type;
+            this.action = action;
+            this.period = period;
+            this.dueTime = dueTime;
+        }
+
+        // Entrega o evento ao executor com o atraso restante, substituindo uma entrega anterior
+        private synchronized void submit() {
+            if (running) {
+                return; // A retomada encontrou o evento em execução; um evento periódico se reentrega ao terminar
+            }
+            long id = ++submission;
+            long remaining = dueTime - now(); // Negativo para um evento periódico atrasado
+            dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remaining);
+            try {
+                future = scheduler.schedule(() -> fire(id), Math.max(0, remaining), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                future = null; // Relógio encerrado durante o agendamento: o evento é descartado
+            }
+        }
+
+        // Invalida a entrega atual, para a pausa ou o encerramento
+        private synchronized void cancel() {
+            submission++; // Ignora a entrega, caso ela já tenha sido retirada da fila do executor
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        // Reivindica a execução se a entrega ainda for a atual e o relógio estiver andando; retorna o atraso, ou -1 se não executar
+        private synchronized long claim(long id, long start) {
+            State current = state;
+            if (id != submission || current.isPaused() || current.shutdown) {
+                return -1; // Entrega cancelada por uma pausa ou pelo encerramento; um evento pendente é reentregue na retomada
+            }
+            running = true;
+            pending.remove(this);
+            return Math.max(0, start - dueNanos);
+        }
+
+        // Reentrega um evento periódico que terminou de executar
+        private synchronized void rearm() {
+            running = false;
+            dueTime += period; // Mantém a taxa fixa
+            pending.add(this);
+            State current = state; // Lido depois de registrar o evento: uma pausa ou retomada concorrente o encontra em pending
+            if (current.shutdown) {
+                pending.remove(this);
+            } else if (!current.isPaused()) {
+                submit();
+            }
+        }
+
+        // Executa o evento se a entrega ainda for a atual
+        private void fire(long id) {
+            long start = System.nanoTime();
+            long lateness = claim(id, start);
+            if (lateness < 0) {
+                return;
+            }
+            action.run();
+            SchedulerInstrumentation observer = instrumentation;
+            if (observer != null && observer.isEnabled()) {
+                observer.recordTimer(type, lateness, System.nanoTime() - start, period > 0 && lateness >= TimeUnit.MILLISECONDS.toNanos(period));
+            }
+            if (period > 0) {
+                rearm();
+            }
+        }
+    }
+
+    // Construtor que inicializa o agendador com um único thread
+    public RealTimeClock() {
+        this(1);
+    }
+
+    // Construtor que inicializa o agendador com o número de threads informado (um por CPU simulada)
+    public RealTimeClock(int threads) {
+        this.clockThreads = ConcurrentHashMap.newKeySet();
+        this.scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "simulation-clock");
+            thread.setDaemon(true); // Não impede o encerramento da aplicação
+            clockThreads.add(thread);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true); // Entregas canceladas saem da fila do executor imediatamente
+        this.pending = ConcurrentHashMap.newKeySet();
+        this.state = new State(0, -1, false);
+    }
+
+    // Retorna o horário do sistema descontado o tempo em pausa; durante a pausa, o relógio fica parado
+    @Override
+    public long now() {
+        State current = state;
+        return (current.isPaused() ? current.pausedAt : System.currentTimeMillis()) - current.pausedTime;
+    }
+
+    // Agenda uma ação para ser executada após o atraso informado; em tempo real não há ordem determinística, então a sequência é 0
+    @Override
+    public long schedule(EventType type, Runnable action, long delay) {
+        add(new Task(type, action, 0, now() + delay));
+        return 0;
+    }
+
+    // Agenda uma ação para ser executada periodicamente
+    @Override
+    public void scheduleAtFixedRate(EventType type, Runnable action, long initialDelay, long period) {
+        add(new Task(type, action, period, now() + initialDelay));
+    }
+
+    // Define onde registrar o atraso e a duração de cada evento
+    @Override
+    public void setInstrumentation(SchedulerInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    // Registra um evento e o entrega ao executor, a menos que o relógio esteja em pausa ou encerrado. O evento é registrado antes
+    // de o estado ser lido: uma pausa ou retomada concorrente publica o novo estado antes de percorrer os pendentes, então ou este
+    // agendamento vê o novo estado, ou a pausa ou retomada encontra o evento; entregas repetidas são descartadas pelo número
+    private void add(Task task) {
+        if (state.shutdown) {
+            return; // Eventos agendados após o encerramento são descartados
+        }
+        pending.add(task);
+        State current = state;
+        if (current.shutdown) {
+            pending.remove(task);
+        } else if (!current.isPaused()) {
+            task.submit();
+        }
+    }
+
+    // Congela os eventos pendentes; eventos em andamento terminam, e os que eles agendarem aguardam a retomada
+    @Override
+    public synchronized void pause() {
+        State current = state;
+        if (current.isPaused() || current.shutdown) {
+            return;
+        }
+        state = new State(current.pausedTime, System.currentTimeMillis(), false);
+        for (Task task : pending) {
+            task.cancel();
+        }
+    }
+
+    // Retoma os eventos pendentes com o tempo que restava a cada um
+    @Override
+    public synchronized void resume() {
+        State current = state;
+        if (!current.isPaused() || current.shutdown) {
+            return;
+        }
+        state = new State(current.pausedTime + System.currentTimeMillis() - current.pausedAt, -1, false);
+        for (Task task : pending) {
+            task.submit();
+        }
+    }
+
+    // Verifica se o relógio está em pausa
+    @Override
+    public boolean isPaused() {
+        return state.isPaused();
+    }
+
+    // Descarta os eventos pendentes, encerra o agendador e espera os eventos em andamento terminarem
+    @Override
+    public void shutdown() {
+        synchronized (this) {
+            State current = state;
+            if (current.shutdown) {
+                return;
+            }
+            state = new State(current.pausedTime, current.pausedAt, true);
+            for (Task task : pending) {
+                task.cancel();
+            }
+            pending.clear();
+            scheduler.shutdown();
+        }
+        if (!clockThreads.contains(Thread.currentThread())) { // Um evento não pode esperar pelo próprio término
+            try {
+                scheduler.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // Preserva o estado de interrupção
+            }
+        }
+    }
+}
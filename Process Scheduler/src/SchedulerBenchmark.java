@@ -0,0 +1,210 @@
+import java.nio.ByteBuffer; // Buffer de bytes usado para o texto dos programas.
+import java.nio.charset.StandardCharsets; // Conjuntos de caracteres padrão.
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.Random; // Gerador de números pseudoaleatórios.
+import java.util.function.IntUnaryOperator; // Função que gera a prioridade de cada inserção.
+
+// Benchmarks dos caminhos críticos do simulador, sem dependências externas.
+// Cada caso roda algumas iterações de aquecimento e depois mede a média e o melhor tempo das iterações seguintes; a preparação
+// de cada iteração (processos, filas preenchidas, escalonadores) fica fora do tempo medido.
+// Uso: java SchedulerBenchmark [tamanhos das cargas de ponta a ponta, por exemplo 1000 100000 1000000]
+public class SchedulerBenchmark {
+    private static final int WARMUP_ITERATIONS = 3; // Iterações descartadas para aquecer o JIT
+    private static final int MEASURED_ITERATIONS = 5; // Iterações medidas
+    private static final int QUANTUM = 200; // Quantum usado nas simulações
+
+    // Preparação de uma iteração, executada fora do tempo medido
+    private interface Setup<T> {
+        T prepare() throws Exception;
+    }
+
+    // Operação medida: executa uma iteração sobre o que foi preparado e retorna o número de operações realizadas
+    private interface Operation<T> {
+        long run(T input) throws Exception;
+    }
+
+    // Método principal que executa todos os benchmarks
+    public static void main(String[] args) throws Exception {
+        int[] workloadSizes = args.length > 0 ? new int[args.length] : new int[] {1_000, 100_000, 1_000_000};
+        for (int i = 0; i < args.length; i++) {
+            workloadSizes[i] = Integer.parseInt(args[i]);
+        }
+
+        // Vazão da análise de programas a partir de um buffer com vários programas concatenados
+        ByteBuffer programText = programText(10_000, new Random(1));
+        measure("parse 10k programs (" + programText.remaining() / 1024 + " KiB)", "program", programText::duplicate,
+                text -> ProgramParser.parseAll(text, "benchmark").size());
+
+        // Inserção e remoção na fila de prontos com diferentes distribuições de prioridade
+        Random random = new Random(2);
+        measure("ready queue, constant priority", "insert+poll", () -> processes(100_000, i -> 0), SchedulerBenchmark::readyQueueRoundTrip);
+        measure("ready queue, 16 uniform priorities", "insert+poll", () -> processes(100_000, i -> random.nextInt(16)),
+                SchedulerBenchmark::readyQueueRoundTrip);
+        measure("ready queue, skewed priorities", "insert+poll", () -> processes(100_000, i -> Integer.numberOfTrailingZeros(random.nextInt() | 1 << 16)),
+                SchedulerBenchmark::readyQueueRoundTrip);
+
+        // Fila de prontos no regime do despacho: cada operação retira o processo da frente e o devolve ao fim
+        measure("ready queue, steady state, 1k queued", "poll+add", () -> filledQueue(1_000, i -> random.nextInt(16)),
+                queue -> readyQueueSteadyState(queue, 1_000_000));
+
+        // Custo de despacho por instrução executada, no escalonador de curto prazo já carregado (sem análise nem admissão)
+        List<ProgramImage> cpuBound = generatePrograms(1_000, 1.0, new Random(3));
+        List<ProgramImage> mixed = generatePrograms(1_000, 0.5, new Random(3));
+        measure("dispatch, CPU-bound programs", "instruction", () -> loadedScheduler(cpuBound, 1), SchedulerBenchmark::dispatchAll);
+        measure("dispatch, mixed programs", "instruction", () -> loadedScheduler(mixed, 1), SchedulerBenchmark::dispatchAll);
+
+        // Simulação de ponta a ponta de cargas geradas, incluindo a admissão pelo escalonador de longo prazo
+        for (int size : workloadSizes) {
+            List<ProgramImage> programs = generatePrograms(size, 0.5, new Random(4));
+            measure("end-to-end, " + size + " processes, 4 CPUs", "instruction", () -> instantiate(programs), workload -> simulate(workload, 4));
+        }
+    }
+
+    // Prepara e executa a operação em cada iteração e exibe o tempo médio e o melhor tempo por operação, sem a preparação
+    private static <T> void measure(String name, String unit, Setup<T> setup, Operation<T> operation) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run(setup.prepare()); // Aquecimento
+        }
+        double best = Double.MAX_VALUE;
+        double total = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            T input = setup.prepare();
+            long start = System.nanoTime();
+            long operations = operation.run(input);
+            double nanosPerOperation = (double) (System.nanoTime() - start) / Math.max(1, operations);
+            best = Math.min(best, nanosPerOperation);
+            total += nanosPerOperation;
+        }
+        System.out.printf("%-50s %10.1f ns/%s (best %.1f)%n", name, total / MEASURED_ITERATIONS, unit, best);
+    }
+
+    // Cria count processos de uma instrução com as prioridades informadas
+    private static Process[] processes(int count, IntUnaryOperator priorities) {
+        ProgramImage program = new ProgramImage(new int[] {ProgramCode.encode(ProgramCode.EXECUTE, 1)});
+        Process[] processes = new Process[count];
+        for (int i = 0; i < count; i++) {
+            processes[i] = new Process("p" + i, program);
+            processes[i].setPriority(priorities.applyAsInt(i));
+        }
+        return processes;
+    }
+
+    // Insere e remove os processos informados de uma fila de prontos vazia
+    private static long readyQueueRoundTrip(Process[] processes) {
+        ReadyQueue queue = new ReadyQueue();
+        for (Process process : processes) {
+            queue.add(process);
+        }
+        while (queue.poll() != null) {
+            // Esvazia a fila
+        }
+        return processes.length;
+    }
+
+    // Cria uma fila de prontos com count processos
+    private static ReadyQueue filledQueue(int count, IntUnaryOperator priorities) {
+        ReadyQueue queue = new ReadyQueue();
+        for (Process process : processes(count, priorities)) {
+            queue.add(process);
+        }
+        return queue;
+    }
+
+    // Retira e devolve operations processos, mantendo o tamanho da fila
+    private static long readyQueueSteadyState(ReadyQueue queue, int operations) {
+        for (int i = 0; i < operations; i++) {
+            queue.add(queue.poll());
+        }
+        return operations;
+    }
+
+    // Cria um escalonador de curto prazo no relógio virtual com um processo de cada programa já admitido
+    private static ShortTermScheduler loadedScheduler(List<ProgramImage> programs, int cpuCount) {
+        ShortTermScheduler scheduler = new ShortTermScheduler(QUANTUM, cpuCount, new IoPriorityPolicy(), new VirtualClock(), message -> { });
+        for (Process process : instantiate(programs)) {
+            scheduler.addProcess(process);
+        }
+        return scheduler;
+    }
+
+    // Despacha os processos admitidos até que todos terminem e retorna o número de instruções executadas
+    private static long dispatchAll(ShortTermScheduler scheduler) {
+        VirtualClock clock = (VirtualClock) scheduler.getClock();
+        scheduler.run(); // Agenda o despacho das CPUs
+        int count = scheduler.getReadyCount();
+        clock.runUntil(() -> scheduler.getFinishedCount() >= count);
+        clock.shutdown();
+        return instructions(scheduler);
+    }
+
+    // Simula a carga no relógio virtual e retorna o número de instruções executadas
+    private static long simulate(List<Process> workload, int cpuCount) {
+        BatchSimulation simulation = new BatchSimulation(QUANTUM, 100, cpuCount, new IoPriorityPolicy(), message -> { });
+        simulation.submitAll(workload);
+        simulation.run();
+        return instructions(simulation.getShortTermScheduler());
+    }
+
+    // Retorna o número de instruções executadas pelos processos finalizados
+    private static long instructions(ShortTermScheduler scheduler) {
+        long instructions = 0;
+        for (Process process : scheduler.getFinishedProcesses()) {
+            instructions += process.getInstructionPointer();
+        }
+        return instructions;
+    }
+
+    // Gera programas com rajadas de CPU e bloqueios aleatórios; cpuShare é a fração de instruções "execute"
+    private static List<ProgramImage> generatePrograms(int count, double cpuShare, Random random) {
+        List<ProgramImage> programs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            programs.add(new ProgramImage(generateProgram(cpuShare, random)));
+        }
+        return programs;
+    }
+
+    // Cria um processo novo para cada programa
+    private static List<Process> instantiate(List<ProgramImage> programs) {
+        List<Process> processes = new ArrayList<>(programs.size());
+        for (int i = 0; i < programs.size(); i++) {
+            processes.add(new Process("program_" + i, programs.get(i)));
+        }
+        return processes;
+    }
+
+    // Gera um programa de 10 a 40 instruções já compilado
+    private static int[] generateProgram(double cpuShare, Random random) {
+        int length = 10 + random.nextInt(31);
+        int[] code = new int[length];
+        int words = 0;
+        for (int i = 0; i < length; i++) {
+            if (random.nextDouble() < cpuShare) {
+                if (words > 0 && ProgramCode.opcode(code[words - 1]) == ProgramCode.EXECUTE) {
+                    code[words - 1]++; // Agrupa com a sequência de "execute" anterior
+                } else {
+                    code[words++] = ProgramCode.encode(ProgramCode.EXECUTE, 1);
+                }
+            } else {
+                code[words++] = ProgramCode.encode(ProgramCode.BLOCK, ProgramCode.blockOperand(0, 1 + random.nextInt(5)));
+            }
+        }
+        int[] compact = new int[words];
+        System.arraycopy(code, 0, compact, 0, words);
+        return compact;
+    }
+
+    // Gera o texto de count programas concatenados
+    private static ByteBuffer programText(int count, Random random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append("program program_").append(i).append("\nbegin\n");
+            int length = 10 + random.nextInt(31);
+            for (int j = 0; j < length; j++) {
+                text.append(random.nextInt(3) == 0 ? "block " + (1 + random.nextInt(5)) : "execute").append('\n');
+            }
+            text.append("end\n");
+        }
+        return ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,332 @@
+import java.lang.management.ManagementFactory; // Fornece o servidor MBean da plataforma.
+import java.util.Locale; // Usado para formatar números com ponto decimal.
+import java.util.concurrent.atomic.AtomicLong; // Contador atômico de 64 bits.
+import javax.management.JMException; // Exceção base das operações JMX.
+import javax.management.MBeanServer; // Servidor onde os MBeans são registrados.
+import javax.management.ObjectName; // Nome de um MBean registrado.
+import jdk.jfr.Category; // Categoria de um evento JFR.
+import jdk.jfr.Description; // Descrição de um evento ou campo JFR.
+import jdk.jfr.Event; // Base dos eventos JFR personalizados.
+import jdk.jfr.Label; // Nome de exibição de um evento ou campo JFR.
+import jdk.jfr.Name; // Nome de um evento JFR.
+import jdk.jfr.Timespan; // Marca um campo JFR como duração.
+
+// Instrumentação do próprio simulador: quanto tempo real o escalonador gasta em cada despacho e em executeProcess, quanto os
+// eventos do relógio atrasam em relação ao instante pretendido e quanto as execuções e os bloqueios duraram além do pretendido.
+// As medições são expostas por JMX e, quando passam do limite configurado, como eventos JFR; elas não entram no checkpoint,
+// pois descrevem a execução do simulador, não a simulação. A medição de despachos e eventos custa algumas leituras de
+// System.nanoTime por evento e começa desligada; a divergência das durações é sempre registrada, pois só ocorre em tempo real.
+public class SchedulerInstrumentation implements SchedulerInstrumentationMBean {
+    private static final String DOMAIN = "ProcessScheduler"; // Domínio dos nomes JMX
+    private static final long DEFAULT_JFR_THRESHOLD = 1_000_000; // 1 ms: despachos e eventos mais rápidos não geram eventos JFR
+
+    private final LatencyHistogram dispatchLatency; // Duração da escolha do processo em cada despacho, em nanossegundos
+    private final LatencyHistogram executeTime; // Duração de executeProcess, em nanossegundos
+    private final LatencyHistogram timerLateness; // Atraso de cada evento do relógio em relação ao instante pretendido, em nanossegundos
+    private final LatencyHistogram eventHandling; // Duração da ação de cada evento do relógio, em nanossegundos
+    private final LatencyHistogram readyWait; // Espera na fila de prontos a cada despacho, em milissegundos do relógio
+    private final LatencyHistogram drift; // Duração medida menos a pretendida das execuções e bloqueios que divergiram
+    private final AtomicLong latePeriodicEvents; // Execuções periódicas com atraso de um período ou mais
+    private final AtomicLong driftTotal; // Soma das diferenças entre a duração medida e a pretendida
+    private volatile boolean enabled; // Indica se os despachos e os eventos do relógio são medidos
+    private volatile long jfrThreshold; // Duração a partir da qual despachos e eventos do relógio geram eventos JFR
+    private ObjectName registeredName; // Nome JMX atual (null se não registrado)
+
+    // Evento JFR de um despacho lento
+    @Name("ProcessScheduler.Dispatch")
+    @Label("Scheduler Dispatch")
+    @Category("Process Scheduler")
+    @Description("Dispatch whose process selection and executeProcess took at least the instrumentation threshold")
+    private static final class DispatchEvent extends Event {
+        @Label("CPU")
+        private int cpu;
+        @Label("Process")
+        private String process;
+        @Label("Selection")
+        @Timespan(Timespan.NANOSECONDS)
+        private long selection;
+        @Label("Execution")
+        @Timespan(Timespan.NANOSECONDS)
+        private long execution;
+    }
+
+    // Evento JFR de um evento do relógio atrasado ou demorado
+    @Name("ProcessScheduler.Timer")
+    @Label("Scheduler Timer")
+    @Category("Process Scheduler")
+    @Description("Clock event that fired late or whose action took at least the instrumentation threshold")
+    private static final class TimerEvent extends Event {
+        @Label("Event Type")
+        private String eventType;
+        @Label("Lateness")
+        @Timespan(Timespan.NANOSECONDS)
+        private long lateness;
+        @Label("Handling")
+        @Timespan(Timespan.NANOSECONDS)
+        private long handling;
+        @Label("Missed Period")
+        private boolean missedPeriod;
+    }
+
+    // Evento JFR de uma execução ou bloqueio que durou mais ou menos que o pretendido
+    @Name("ProcessScheduler.Drift")
+    @Label("Scheduler Drift")
+    @Category("Process Scheduler")
+    @Description("CPU burst or I/O whose measured duration on the simulation clock differs from the intended duration")
+    private static final class DriftEvent extends Event {
+        @Label("Process")
+        private String process;
+        @Label("I/O")
+        private boolean io;
+        @Label("Intended")
+        @Timespan(Timespan.MILLISECONDS)
+        private long intended;
+        @Label("Actual")
+        @Timespan(Timespan.MILLISECONDS)
+        private long actual;
+    }
+
+    // Construtor que inicializa as medições vazias
+    public SchedulerInstrumentation() {
+        this.dispatchLatency = new LatencyHistogram();
+        this.executeTime = new LatencyHistogram();
+        this.timerLateness = new LatencyHistogram();
+        this.eventHandling = new LatencyHistogram();
+        this.readyWait = new LatencyHistogram();
+        this.drift = new LatencyHistogram();
+        this.latePeriodicEvents = new AtomicLong();
+        this.driftTotal = new AtomicLong();
+        this.enabled = false;
+        this.jfrThreshold = DEFAULT_JFR_THRESHOLD;
+    }
+
+    // Registra um despacho medido: a duração da escolha do processo, a de executeProcess e a espera do processo na fila de prontos
+    public void recordDispatch(int cpuId, Process process, long selectionNanos, long executionNanos, long waited) {
+        dispatchLatency.record(selectionNanos);
+        executeTime.record(executionNanos);
+        readyWait.record(waited);
+        if (selectionNanos + executionNanos >= jfrThreshold) {
+            DispatchEvent event = new DispatchEvent();
+            if (event.isEnabled()) {
+                event.cpu = cpuId;
+                event.process = process.getId();
+                event.selection = selectionNanos;
+                event.execution = executionNanos;
+                event.commit();
+            }
+        }
+    }
+
+    // Registra um evento do relógio medido: o atraso em relação ao instante pretendido e a duração da ação; missedPeriod indica
+    // que um evento periódico atrasou um período inteiro ou mais e será executado novamente logo em seguida
+    public void recordTimer(EventType type, long latenessNanos, long handlingNanos, boolean missedPeriod) {
+        timerLateness.record(latenessNanos);
+        eventHandling.record(handlingNanos);
+        if (missedPeriod) {
+            latePeriodicEvents.incrementAndGet();
+        }
+        if (latenessNanos >= jfrThreshold || handlingNanos >= jfrThreshold || missedPeriod) {
+            TimerEvent event = new TimerEvent();
+            if (event.isEnabled()) {
+                event.eventType = type.name();
+                event.lateness = latenessNanos;
+                event.handling = handlingNanos;
+                event.missedPeriod = missedPeriod;
+                event.commit();
+            }
+        }
+    }
+
+    // Registra o fim de uma execução ou bloqueio; só há divergência quando o evento do relógio ocorre fora do instante pretendido
+    public void recordBurst(Process process, boolean io, long intended, long actual) {
+        long difference = actual - intended;
+        if (difference == 0) {
+            return;
+        }
+        drift.record(Math.abs(difference));
+        driftTotal.addAndGet(difference);
+        DriftEvent event = new DriftEvent();
+        if (event.isEnabled()) {
+            event.process = process.getId();
+            event.io = io;
+            event.intended = intended;
+            event.actual = actual;
+            event.commit();
+        }
+    }
+
+    // Registra a instrumentação no servidor MBean da plataforma com o nome informado, substituindo um registro anterior
+    public synchronized void register(String name) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            unregister();
+            ObjectName objectName = new ObjectName(DOMAIN, "name", ObjectName.quote(name));
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName); // Nome usado por outra simulação encerrada
+            }
+            server.registerMBean(this, objectName);
+            registeredName = objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register instrumentation MBean: " + name, e); // Lança exceção se o registro falhar
+        }
+    }
+
+    // Remove o registro feito por register, se houver
+    public synchronized void unregister() {
+        if (registeredName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister instrumentation MBean: " + registeredName, e); // Lança exceção se a remoção falhar
+        } finally {
+            registeredName = null;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getDispatches() {
+        return dispatchLatency.getCount();
+    }
+
+    @Override
+    public double getDispatchLatencyMeanNanos() {
+        return dispatchLatency.getMean();
+    }
+
+    @Override
+    public long getDispatchLatencyP99Nanos() {
+        return dispatchLatency.getPercentile(99);
+    }
+
+    @Override
+    public long getDispatchLatencyMaxNanos() {
+        return dispatchLatency.getMax();
+    }
+
+    @Override
+    public double getExecuteMeanNanos() {
+        return executeTime.getMean();
+    }
+
+    @Override
+    public long getExecuteP99Nanos() {
+        return executeTime.getPercentile(99);
+    }
+
+    @Override
+    public long getExecuteMaxNanos() {
+        return executeTime.getMax();
+    }
+
+    @Override
+    public long getTimerEvents() {
+        return timerLateness.getCount();
+    }
+
+    @Override
+    public double getTimerLatenessMeanNanos() {
+        return timerLateness.getMean();
+    }
+
+    @Override
+    public long getTimerLatenessP99Nanos() {
+        return timerLateness.getPercentile(99);
+    }
+
+    @Override
+    public long getTimerLatenessMaxNanos() {
+        return timerLateness.getMax();
+    }
+
+    @Override
+    public double getEventHandlingMeanNanos() {
+        return eventHandling.getMean();
+    }
+
+    @Override
+    public long getEventHandlingMaxNanos() {
+        return eventHandling.getMax();
+    }
+
+    @Override
+    public long getLatePeriodicEvents() {
+        return latePeriodicEvents.get();
+    }
+
+    @Override
+    public double getReadyWaitMeanMillis() {
+        return readyWait.getMean();
+    }
+
+    @Override
+    public long getReadyWaitP99Millis() {
+        return readyWait.getPercentile(99);
+    }
+
+    @Override
+    public long getReadyWaitMaxMillis() {
+        return readyWait.getMax();
+    }
+
+    @Override
+    public long getDriftedBursts() {
+        return drift.getCount();
+    }
+
+    @Override
+    public long getDriftTotalMillis() {
+        return driftTotal.get();
+    }
+
+    @Override
+    public long getDriftMaxMillis() {
+        return drift.getMax();
+    }
+
+    @Override
+    public long getJfrThresholdNanos() {
+        return jfrThreshold;
+    }
+
+    @Override
+    public void setJfrThresholdNanos(long threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative"); // Lança exceção se o limite for inválido
+        }
+        this.jfrThreshold = threshold;
+    }
+
+    @Override
+    public void reset() {
+        dispatchLatency.reset();
+        executeTime.reset();
+        timerLateness.reset();
+        eventHandling.reset();
+        readyWait.reset();
+        drift.reset();
+        latePeriodicEvents.set(0);
+        driftTotal.set(0);
+    }
+
+    @Override
+    public String toJson() {
+        return String.format(Locale.ROOT, "{\"dispatchLatencyNs\":%s,\"executeNs\":%s,\"timerLatenessNs\":%s,\"eventHandlingNs\":%s,"
+                + "\"latePeriodicEvents\":%d,\"readyWait\":%s,\"drift\":%s,\"driftTotal\":%d}",
+                new MetricsSnapshot.Distribution(dispatchLatency).toJson(), new MetricsSnapshot.Distribution(executeTime).toJson(),
+                new MetricsSnapshot.Distribution(timerLateness).toJson(), new MetricsSnapshot.Distribution(eventHandling).toJson(),
+                latePeriodicEvents.get(), new MetricsSnapshot.Distribution(readyWait).toJson(), new MetricsSnapshot.Distribution(drift).toJson(),
+                driftTotal.get());
+    }
+}
@@ -0,0 +1,30 @@
+// Interface de gerenciamento (JMX) da instrumentação do escalonador; tempos de execução do simulador em nanossegundos,
+// tempos da simulação em milissegundos do relógio
+public interface SchedulerInstrumentationMBean {
+    boolean isEnabled(); // Verifica se os despachos e os eventos do relógio estão sendo medidos
+    void setEnabled(boolean enabled); // Liga ou desliga a medição dos despachos e dos eventos do relógio
+    long getDispatches(); // Retorna o número de despachos medidos
+    double getDispatchLatencyMeanNanos(); // Retorna a duração média da escolha do processo em um despacho
+    long getDispatchLatencyP99Nanos(); // Retorna o percentil 99 da duração da escolha do processo
+    long getDispatchLatencyMaxNanos(); // Retorna a maior duração da escolha do processo
+    double getExecuteMeanNanos(); // Retorna a duração média de executeProcess
+    long getExecuteP99Nanos(); // Retorna o percentil 99 da duração de executeProcess
+    long getExecuteMaxNanos(); // Retorna a maior duração de executeProcess
+    long getTimerEvents(); // Retorna o número de eventos do relógio medidos
+    double getTimerLatenessMeanNanos(); // Retorna o atraso médio dos eventos do relógio em relação ao instante pretendido
+    long getTimerLatenessP99Nanos(); // Retorna o percentil 99 do atraso dos eventos do relógio
+    long getTimerLatenessMaxNanos(); // Retorna o maior atraso de um evento do relógio
+    double getEventHandlingMeanNanos(); // Retorna a duração média da ação de um evento do relógio
+    long getEventHandlingMaxNanos(); // Retorna a maior duração da ação de um evento do relógio
+    long getLatePeriodicEvents(); // Retorna quantas execuções periódicas atrasaram um período inteiro ou mais
+    double getReadyWaitMeanMillis(); // Retorna a espera média na fila de prontos a cada despacho
+    long getReadyWaitP99Millis(); // Retorna o percentil 99 da espera na fila de prontos
+    long getReadyWaitMaxMillis(); // Retorna a maior espera na fila de prontos
+    long getDriftedBursts(); // Retorna quantas execuções e bloqueios duraram mais ou menos que o pretendido
+    long getDriftTotalMillis(); // Retorna a soma das diferenças entre a duração medida e a pretendida
+    long getDriftMaxMillis(); // Retorna a maior diferença entre a duração medida e a pretendida
+    long getJfrThresholdNanos(); // Retorna a duração a partir da qual despachos e eventos do relógio geram eventos JFR
+    void setJfrThresholdNanos(long threshold); // Define a duração a partir da qual despachos e eventos do relógio geram eventos JFR
+    void reset(); // Descarta as medições
+    String toJson(); // Retorna as medições em JSON
+}
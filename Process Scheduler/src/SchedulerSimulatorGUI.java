@@ -1,20 +1,64 @@
 import java.awt.*; // Importa classes necessárias para a criação da interface gráfica
 import javax.swing.*; // Importa classes necessárias para os componentes Swing
 import java.io.File; // Importa a classe File para manipulação de arquivos
+import java.io.IOException; // Importa a classe de exceção de E/S
+import java.nio.file.Paths; // Importa a classe Paths para criar caminhos
+import java.util.concurrent.ExecutorService; // Importa o serviço de execução usado pelos controles
+import java.util.concurrent.Executors; // Importa a fábrica de executores
 
 public class SchedulerSimulatorGUI {
     private final LongTermScheduler longTermScheduler; // Instância do escalonador de longo prazo
     private final ShortTermScheduler shortTermScheduler; // Instância do escalonador de curto prazo
     private final UserInterface userInterface; // Instância da interface do usuário
+    private final EventLog eventLog; // Log de eventos entregue à área de texto em lotes
+    private final ExecutorService controls; // Executa os comandos dos botões, em ordem, fora da thread de eventos
     private JTextArea outputArea; // Área de texto para exibição de mensagens
+    private QueueDashboard dashboard; // Painel com as filas e os gráficos da simulação
+
+    private static final int EVENT_LOG_CAPACITY = 1 << 16; // Eventos que podem aguardar entrega antes de serem descartados
+    private static final long FRAME_PERIOD = 33; // Intervalo entre lotes entregues à interface (~30 quadros por segundo)
+    private static final int MAX_OUTPUT_LINES = 5000; // Linhas mantidas na área de texto
 
     // Construtor que inicializa os componentes principais
-    public SchedulerSimulatorGUI(int quantum) {
-        shortTermScheduler = new ShortTermScheduler(quantum, this::appendToOutput); // Inicializa o escalonador de curto prazo
-        longTermScheduler = new LongTermScheduler(shortTermScheduler, this::appendToOutput); // Inicializa o escalonador de longo prazo
-        userInterface = new UserInterface(longTermScheduler, shortTermScheduler, this::appendToOutput); // Inicializa a interface do usuário
+    public SchedulerSimulatorGUI(int quantum, int maxLoad, int cpuCount, SchedulingPolicy policy) {
+        eventLog = new EventLog(EVENT_LOG_CAPACITY, FRAME_PERIOD); // Inicializa o log de eventos
+        controls = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gui-controls");
+            thread.setDaemon(true); // Não impede o encerramento da aplicação
+            return thread;
+        });
+        shortTermScheduler = new ShortTermScheduler(quantum, cpuCount, policy, eventLog); // Inicializa o escalonador de curto prazo
+        longTermScheduler = new LongTermScheduler(shortTermScheduler, maxLoad, eventLog); // Inicializa o escalonador de longo prazo
+        userInterface = new UserInterface(longTermScheduler, shortTermScheduler, eventLog); // Inicializa a interface do usuário
+        shortTermScheduler.getInstrumentation().setEnabled(true); // Em tempo real, o custo da medição é desprezível
+        shortTermScheduler.getInstrumentation().register("gui"); // Expõe a instrumentação por JMX (jconsole, VisualVM)
 
         createAndShowGUI(); // Cria e exibe a interface gráfica
+        eventLog.addSink(new TextAreaSink(outputArea, MAX_OUTPUT_LINES)); // Entrega os eventos à área de texto
+        String logFile = System.getProperty("scheduler.eventLog"); // Arquivo opcional para gravar os eventos em JSONL
+        if (logFile != null) {
+            try {
+                eventLog.addSink(new JsonlFileSink(Paths.get(logFile)));
+            } catch (IOException e) {
+                appendToOutput("Failed to open event log file: " + e.getMessage());
+            }
+        }
+        String traceFile = System.getProperty("scheduler.trace"); // Arquivo opcional para gravar o trace binário das decisões
+        if (traceFile != null) {
+            try {
+                TraceRecorder traceRecorder = new TraceRecorder(Paths.get(traceFile), quantum, cpuCount, maxLoad, policy.getName());
+                shortTermScheduler.setTraceRecorder(traceRecorder);
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> closeTrace(traceRecorder))); // Grava o restante do trace ao fechar a janela
+            } catch (IOException e) {
+                appendToOutput("Failed to open trace file: " + e.getMessage());
+            }
+        }
+        String deviceSpecs = System.getProperty("scheduler.devices"); // Dispositivos de E/S opcionais, no formato nome:concorrência[:fifo|sjf],...
+        if (deviceSpecs != null) {
+            for (IoDevice device : IoDevice.parse(deviceSpecs)) {
+                shortTermScheduler.configureDevice(device);
+            }
+        }
         startThreads(); // Inicia as threads principais
     }
 
@@ -22,7 +66,7 @@ public class SchedulerSimulatorGUI {
     private void createAndShowGUI() {
         JFrame frame = new JFrame("Scheduler Simulator"); // Cria o frame principal
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE); // Define a operação padrão de fechamento
-        frame.setSize(500, 400); // Define o tamanho da janela
+        frame.setSize(1100, 720); // Define o tamanho da janela
         frame.setLayout(new BorderLayout()); // Define o layout da janela
 
         JPanel controlPanel = new JPanel(); // Cria um painel para os controles
@@ -34,34 +78,50 @@ public class SchedulerSimulatorGUI {
         JButton multiSubmitButton = new JButton("Submit Multiple"); // Botão para submeter múltiplos arquivos
         JButton startButton = new JButton("Start Simulation"); // Botão para iniciar a simulação
         JButton pauseButton = new JButton("Pause Simulation"); // Botão para pausar a simulação
+        JButton resumeButton = new JButton("Resume Simulation"); // Botão para retomar a simulação
+        JButton stopButton = new JButton("Stop Simulation"); // Botão para encerrar a simulação
+        JButton queuesButton = new JButton("Show Queues"); // Botão para exibir as filas de processos
 
-        // Adiciona ação ao botão de submeter um único arquivo
+        // Adiciona ação ao botão de submeter um único arquivo (ou todos os programas de um diretório)
         submitButton.addActionListener(e -> {
             String filePath = filePathField.getText();
-            if (!filePath.isEmpty()) {
-                userInterface.submitJob(filePath); // Submete o trabalho
-            } else {
+            if (filePath.isEmpty()) {
                 appendToOutput("Filename required."); // Exibe mensagem de erro
+            } else if (new File(filePath).isDirectory()) {
+                runInBackground(() -> userInterface.submitBatch(filePath)); // Carrega o diretório fora da thread de eventos
+            } else {
+                runControl(() -> userInterface.submitJob(filePath)); // Submete o trabalho
             }
         });
 
-        // Adiciona ação ao botão de submeter múltiplos arquivos
+        // Adiciona ação ao botão de submeter múltiplos arquivos ou diretórios
         multiSubmitButton.addActionListener(e -> {
             JFileChooser fileChooser = new JFileChooser(); // Cria um seletor de arquivos
             fileChooser.setMultiSelectionEnabled(true); // Habilita a seleção múltipla
+            fileChooser.setFileSelectionMode(JFileChooser.FILES_AND_DIRECTORIES); // Permite selecionar diretórios
             int result = fileChooser.showOpenDialog(frame); // Abre o diálogo de seleção de arquivos
             if (result == JFileChooser.APPROVE_OPTION) {
                 File[] files = fileChooser.getSelectedFiles(); // Obtém os arquivos selecionados
-                for (File file : files) {
-                    userInterface.submitJob(file.getAbsolutePath()); // Submete cada arquivo
-                }
+                // Carrega os arquivos fora da thread de eventos para não congelar a interface
+                runInBackground(() -> {
+                    for (File file : files) {
+                        userInterface.submitBatch(file.getAbsolutePath()); // Submete cada arquivo ou diretório
+                    }
+                });
             }
         });
 
+        // Os comandos copiam as filas (publishSnapshot), o que não pode ocorrer na thread de eventos; o executor mantém a ordem dos cliques
         // Adiciona ação ao botão de iniciar a simulação
-        startButton.addActionListener(e -> userInterface.startSimulation());
+        startButton.addActionListener(e -> runControl(userInterface::startSimulation));
         // Adiciona ação ao botão de pausar a simulação
-        pauseButton.addActionListener(e -> userInterface.pauseSimulation());
+        pauseButton.addActionListener(e -> runControl(userInterface::pauseSimulation));
+        // Adiciona ação ao botão de retomar a simulação
+        resumeButton.addActionListener(e -> runControl(userInterface::resumeSimulation));
+        // Adiciona ação ao botão de encerrar a simulação, que também espera pelos eventos em andamento
+        stopButton.addActionListener(e -> runControl(userInterface::stopSimulation));
+        // Adiciona ação ao botão de exibir as filas
+        queuesButton.addActionListener(e -> runControl(userInterface::displayProcessQueues));
 
         // Adiciona os componentes ao painel de controle
         controlPanel.add(fileLabel);
@@ -70,21 +130,51 @@ public class SchedulerSimulatorGUI {
         controlPanel.add(multiSubmitButton);
         controlPanel.add(startButton);
         controlPanel.add(pauseButton);
+        controlPanel.add(resumeButton);
+        controlPanel.add(stopButton);
+        controlPanel.add(queuesButton);
 
         // Cria a área de texto para exibição de mensagens
         outputArea = new JTextArea(15, 40);
         outputArea.setEditable(false); // Torna a área de texto não editável
         JScrollPane scrollPane = new JScrollPane(outputArea); // Adiciona a área de texto a um painel de rolagem
 
+        // Cria o painel das filas, alimentado pelas cópias publicadas pela interface do usuário
+        dashboard = new QueueDashboard(userInterface::getSnapshot);
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, dashboard, scrollPane); // Filas em cima, mensagens embaixo
+        splitPane.setResizeWeight(0.65); // O painel das filas recebe a maior parte do espaço extra
+
         frame.add(controlPanel, BorderLayout.NORTH); // Adiciona o painel de controle ao topo da janela
-        frame.add(scrollPane, BorderLayout.CENTER); // Adiciona o painel de rolagem ao centro da janela
+        frame.add(splitPane, BorderLayout.CENTER); // Adiciona o painel dividido ao centro da janela
+        dashboard.start(); // Começa a atualizar o painel das filas
 
         frame.setVisible(true); // Torna a janela visível
     }
 
     // Método que adiciona uma mensagem à área de texto
     private void appendToOutput(String message) {
-        SwingUtilities.invokeLater(() -> outputArea.append(message + "\n")); // Adiciona a mensagem na thread de eventos do Swing
+        eventLog.accept(message); // A mensagem é entregue à thread de eventos do Swing no próximo lote
+    }
+
+    // Método que fecha o trace, gravando os registros que ainda estão no buffer
+    private static void closeTrace(TraceRecorder traceRecorder) {
+        try {
+            traceRecorder.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close trace file: " + e.getMessage());
+        }
+    }
+
+    // Método que executa um comando dos botões no executor de controles, depois dos comandos anteriores
+    private void runControl(Runnable command) {
+        controls.execute(command);
+    }
+
+    // Método que executa uma tarefa demorada em um thread separado da thread de eventos do Swing
+    private void runInBackground(Runnable task) {
+        Thread worker = new Thread(task, "gui-worker");
+        worker.setDaemon(true); // Não impede o encerramento da aplicação
+        worker.start();
     }
 
     // Método que inicia as threads principais
@@ -97,11 +187,14 @@ public class SchedulerSimulatorGUI {
     // Método principal que inicia a aplicação
     public static void main(String[] args) {
         if (args.length < 1) {
-            System.err.println("Usage: java SchedulerSimulatorGUI <quantum>"); // Exibe mensagem de uso
+            System.err.println("Usage: java [-Dscheduler.eventLog=<file.jsonl>] [-Dscheduler.trace=<file.trace>] [-Dscheduler.devices=<name:concurrency[:fifo|sjf],...>] SchedulerSimulatorGUI <quantum> [maxLoad] [cpus] [priority|mlfq]"); // Exibe mensagem de uso
             System.exit(1); // Encerra o programa
         }
 
         int quantum = Integer.parseInt(args[0]); // Converte o argumento de entrada em inteiro
-        SwingUtilities.invokeLater(() -> new SchedulerSimulatorGUI(quantum)); // Inicia a aplicação na thread de eventos do Swing
+        int maxLoad = args.length > 1 ? Integer.parseInt(args[1]) : 10; // Carga máxima do escalonador de curto prazo (padrão: 10)
+        int cpuCount = args.length > 2 ? Integer.parseInt(args[2]) : 1; // Número de CPUs simuladas (padrão: 1)
+        SchedulingPolicy policy = SchedulingPolicy.forName(args.length > 3 ? args[3] : "priority"); // Política de escalonamento (padrão: priority)
+        SwingUtilities.invokeLater(() -> new SchedulerSimulatorGUI(quantum, maxLoad, cpuCount, policy)); // Inicia a aplicação na thread de eventos do Swing
     }
 }
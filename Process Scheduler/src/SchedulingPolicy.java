@@ -0,0 +1,23 @@
+// Política de escalonamento usada pelo escalonador de curto prazo para definir prioridades e fatias de tempo.
+// A prioridade definida pela política ordena as filas de prontos (maior prioridade primeiro).
+public interface SchedulingPolicy {
+    String getName(); // Nome da política
+    void onAdmitted(Process process); // Chamado quando o processo é admitido no escalonador de curto prazo
+    int getTimeSlice(Process process); // Número de quanta que o processo pode executar por despacho
+    void onCpuBurst(Process process, boolean sliceExpired); // Chamado ao fim de uma execução; sliceExpired indica que a fatia foi usada por inteiro
+    void onIoCompleted(Process process); // Chamado quando o processo retorna de uma operação de E/S
+    int getBoostInterval(); // Intervalo, em quanta, entre reajustes periódicos de prioridade (0 para nenhum)
+    void boost(Process process); // Reajusta a prioridade de um processo pronto no reajuste periódico
+
+    // Cria a política correspondente ao nome informado
+    static SchedulingPolicy forName(String name) {
+        switch (name) {
+            case "priority":
+                return new IoPriorityPolicy();
+            case "mlfq":
+                return new MultilevelFeedbackPolicy();
+            default:
+                throw new IllegalArgumentException("Unknown scheduling policy: " + name); // Lança exceção se a política não existir
+        }
+    }
+}
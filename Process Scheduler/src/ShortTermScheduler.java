@@ -1,99 +1,631 @@
-import java.util.PriorityQueue; // Interface que representa uma fila de prioridade.
-import java.util.Comparator; // Interface para comparar elementos.
-import java.util.Queue; // Interface que representa uma fila de elementos.
-import java.util.LinkedList; // Implementação de fila encadeada.
-import java.util.List; // Interface que representa uma lista de elementos.
 import java.util.ArrayList; // Implementação de lista baseada em array.
-import java.util.concurrent.Executors; // Fornece métodos para criar executores que podem ser usados para gerenciar threads.
-import java.util.concurrent.ScheduledExecutorService; // Interface que representa um executor que pode agendar comandos para execução futura.
-import java.util.concurrent.TimeUnit; // Enum usado para especificar unidades de tempo.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.Queue; // Interface que representa uma fila de elementos.
+import java.util.concurrent.ConcurrentLinkedQueue; // Fila encadeada concorrente e sem bloqueios.
+import java.util.concurrent.atomic.AtomicInteger; // Contador atômico.
+import java.util.concurrent.atomic.AtomicReferenceArray; // Array de referências com acesso volátil.
 import java.util.function.Consumer; // Fornece a interface funcional Consumer usada para passar funções lambda.
 
 public class ShortTermScheduler extends Thread implements InterSchedulerInterface, NotificationInterface {
-    private final PriorityQueue<Process> readyQueue; // Fila de processos prontos, ordenada por prioridade
-    private final Queue<Process> blockedQueue; // Fila de processos bloqueados
-    private final List<Process> finishedProcesses; // Lista de processos finalizados
+    public static final int RECENTLY_FINISHED = 1000; // Processos finalizados mais recentes guardados para a interface
+
+    private final VirtualCpu[] cpus; // CPUs simuladas, cada uma com sua fila de prontos ordenada por prioridade
+    private final TimingWheel ioWheel; // Processos em atendimento nos dispositivos, pelo tick do fim da E/S (protegida pelo próprio monitor)
+    private final IoDevice[] devices; // Dispositivos de E/S pelo índice do registro, criados sob demanda (protegidos pelo monitor da roda)
+    private final AtomicInteger blockedCount; // Número de processos bloqueados
+    private final Queue<Process> finishedProcesses; // Fila de processos finalizados
+    private final AtomicInteger finishedCount; // Número de processos finalizados
+    private final AtomicReferenceArray<Process> recentlyFinished; // Últimos processos finalizados, pela ordem de finalização módulo o tamanho
+    private final AtomicInteger runningCount; // Número de processos em execução nas CPUs
+    private final AtomicInteger idleCpus; // Número de CPUs estacionadas à espera de trabalho
+    private volatile Runnable capacityListener; // Avisado quando um processo termina, liberando capacidade
     private final int quantum; // Quantum de tempo para o escalonamento Round-Robin
-    private final ScheduledExecutorService scheduler; // Serviço de agendamento para executar tarefas periodicamente
+    private final SchedulingPolicy policy; // Política que define prioridades e fatias de tempo
+    private final SimulationClock clock; // Relógio que agenda os eventos da simulação (tempo real ou virtual)
     private final Consumer<String> outputConsumer; // Consumidor de saída para mensagens de status
+    private final SimulationMetrics metrics; // Métricas agregadas da simulação
+    private final SchedulerInstrumentation instrumentation; // Medições do custo do próprio escalonador e do atraso do relógio
+    private volatile TraceRecorder traceRecorder; // Trace opcional das decisões de escalonamento (null se desativado)
+    private long nextBoostTime; // Instante do próximo reajuste periódico de prioridades
+    private volatile long lastBoostTime; // Instante do último reajuste periódico (Long.MIN_VALUE se ainda não houve)
+    private long nextBoostSequence; // Sequência do próximo reajuste periódico de prioridades
+    private long ioTickTime; // Instante do próximo tick da roda de E/S (-1 se a roda estiver vazia)
+    private long ioTickSequence; // Sequência do próximo tick da roda de E/S
+    private long ioTickGeneration; // Número do tick agendado; ticks substituídos por um anterior são ignorados
 
-    // Construtor que inicializa as variáveis
+    // Construtor que usa o relógio de tempo real, uma única CPU e a política original
     public ShortTermScheduler(int quantum, Consumer<String> outputConsumer) {
-        this.readyQueue = new PriorityQueue<>(Comparator.comparingInt(Process::getPriority).reversed()); // Inicializa a fila de prontos com ordenação por prioridade
-        this.blockedQueue = new LinkedList<>(); // Inicializa a fila de bloqueados
-        this.finishedProcesses = new ArrayList<>(); // Inicializa a lista de processos finalizados
+        this(quantum, 1, new IoPriorityPolicy(), new RealTimeClock(), outputConsumer);
+    }
+
+    // Construtor que usa o relógio de tempo real com um thread por CPU simulada
+    public ShortTermScheduler(int quantum, int cpuCount, SchedulingPolicy policy, Consumer<String> outputConsumer) {
+        this(quantum, cpuCount, policy, new RealTimeClock(cpuCount), outputConsumer);
+    }
+
+    // Construtor que inicializa as variáveis com o número de CPUs, a política e o relógio informados
+    public ShortTermScheduler(int quantum, int cpuCount, SchedulingPolicy policy, SimulationClock clock, Consumer<String> outputConsumer) {
+        if (cpuCount < 1 || cpuCount > Process.MAX_CPU + 1) {
+            throw new IllegalArgumentException("CPU count must be between 1 and " + (Process.MAX_CPU + 1)); // Lança exceção se o número de CPUs for inválido
+        }
+        this.cpus = new VirtualCpu[cpuCount]; // Cria as CPUs simuladas
+        for (int i = 0; i < cpuCount; i++) {
+            cpus[i] = new VirtualCpu(i); // Cada CPU tem sua própria fila de prontos
+        }
+        this.ioWheel = new TimingWheel(clock.now(), quantum); // Um tick por quantum
+        this.devices = new IoDevice[ProgramCode.MAX_DEVICE + 1];
+        this.devices[0] = new IoDevice(IoDeviceRegistry.DEFAULT_DEVICE, IoDevice.Discipline.FIFO, 0); // Sem fila: o bloqueio é um atraso puro
+        this.blockedCount = new AtomicInteger(); // Inicializa o contador de bloqueados
+        this.ioTickTime = -1; // Nenhum tick agendado
+        this.lastBoostTime = Long.MIN_VALUE; // Nenhum reajuste ocorreu
+        this.finishedProcesses = new ConcurrentLinkedQueue<>(); // Inicializa a fila de processos finalizados
+        this.finishedCount = new AtomicInteger(); // Inicializa o contador de finalizados
+        this.recentlyFinished = new AtomicReferenceArray<>(RECENTLY_FINISHED); // Inicializa os finalizados recentes
+        this.runningCount = new AtomicInteger(); // Inicializa o contador de processos em execução
+        this.idleCpus = new AtomicInteger(); // Inicializa o contador de CPUs estacionadas
+        this.capacityListener = () -> { }; // Nenhum ouvinte por padrão
         this.quantum = quantum; // Configura o quantum de tempo
-        this.scheduler = Executors.newScheduledThreadPool(1); // Cria um agendador com um único thread
+        this.policy = policy; // Configura a política de escalonamento
+        this.clock = clock; // Configura o relógio da simulação
         this.outputConsumer = outputConsumer; // Configura o consumidor de saída
+        this.metrics = new SimulationMetrics(cpuCount, quantum); // Inicializa as métricas
+        this.instrumentation = new SchedulerInstrumentation(); // Inicializa a instrumentação
+        clock.setInstrumentation(instrumentation); // O relógio registra o atraso e a duração dos eventos
     }
 
     // Método que é chamado quando o thread é iniciado
     @Override
     public void run() {
-        // Agendador que chama o método executeProcess a cada intervalo de quantum
-        scheduler.scheduleAtFixedRate(() -> {
-            if (!readyQueue.isEmpty()) { // Verifica se há processos na fila de prontos
-                Process currentProcess = readyQueue.poll(); // Remove o processo da fila de prontos
-                executeProcess(currentProcess); // Executa o processo
+        metrics.start(clock.now()); // Marca o início da simulação
+        trace(TraceEventType.START, null, -1);
+        // Cada CPU agenda o próprio despacho: o próximo despacho ocorre quando a CPU fica livre
+        for (VirtualCpu cpu : cpus) {
+            scheduleDispatch(cpu, 0);
+        }
+        // Reajuste periódico das prioridades, se a política usar
+        if (policy.getBoostInterval() > 0) {
+            scheduleBoost((long) policy.getBoostInterval() * quantum);
+        }
+    }
+
+    // Método que agenda o próximo despacho de uma CPU sem processo em execução
+    private void scheduleDispatch(VirtualCpu cpu, long delay) {
+        long sequence = clock.schedule(EventType.DISPATCH, () -> dispatch(cpu), delay);
+        cpu.setNextDispatch(clock.now() + delay, sequence); // Guardado para o checkpoint
+    }
+
+    // Método que agenda o próximo reajuste periódico de prioridades
+    private void scheduleBoost(long delay) {
+        nextBoostSequence = clock.schedule(EventType.PRIORITY_BOOST, this::boostPriorities, delay);
+        nextBoostTime = clock.now() + delay; // Guardado para o checkpoint
+    }
+
+    // Método que escolhe o próximo processo de uma CPU, roubando de outra CPU se a fila local estiver vazia
+    private void dispatch(VirtualCpu cpu) {
+        boolean measured = instrumentation.isEnabled();
+        long start = measured ? System.nanoTime() : 0; // Início da medição do despacho
+        Process currentProcess = cpu.getRunQueue().poll(); // Remove o processo da fila local, se houver
+        if (currentProcess == null) {
+            currentProcess = steal(cpu); // Tenta roubar trabalho de uma CPU ocupada
+        }
+        if (currentProcess != null) { // Verifica se havia processos prontos
+            long now = clock.now();
+            currentProcess.setLastCpu(cpu.getId()); // Registra a CPU em que o processo executa
+            metrics.recordDispatch(now, getReadyCount(), runningCount.incrementAndGet()); // O processo passa a ocupar a CPU
+            if (currentProcess.getFirstDispatchTime() < 0) {
+                metrics.recordResponse(now - currentProcess.getArrivalTime()); // Tempo até o primeiro despacho
+            }
+            long waited = currentProcess.markDispatched(now); // Acumula o tempo de espera na fila de prontos
+            trace(TraceEventType.DISPATCH, currentProcess, cpu.getId());
+            long selected = measured ? System.nanoTime() : 0;
+            executeProcess(currentProcess, cpu); // Executa o processo
+            if (measured) {
+                instrumentation.recordDispatch(cpu.getId(), currentProcess, selected - start, System.nanoTime() - selected, waited);
+            }
+        } else {
+            park(cpu); // CPU ociosa: espera até que um processo fique pronto
+        }
+    }
+
+    // Método que estaciona uma CPU sem trabalho, sem agendar novos despachos
+    private void park(VirtualCpu cpu) {
+        cpu.park();
+        idleCpus.incrementAndGet();
+        // Reverifica depois de estacionar: um processo pode ter ficado pronto antes que a CPU fosse vista como ociosa
+        if (!cpu.getRunQueue().isEmpty() || hasStealableWork(cpu)) {
+            wake(cpu);
+        }
+    }
+
+    // Método que acorda uma CPU estacionada, agendando seu despacho imediato
+    private boolean wake(VirtualCpu cpu) {
+        if (cpu.wake()) {
+            idleCpus.decrementAndGet();
+            scheduleDispatch(cpu, 0);
+            return true;
+        }
+        return false;
+    }
+
+    // Método que acorda uma CPU para um processo que acabou de ficar pronto: a CPU da fila, ou qualquer outra se o processo puder ser roubado
+    private void wakeFor(Process process, int target) {
+        if (idleCpus.get() == 0 || wake(cpus[target]) || process.getAffinity() >= 0) {
+            return;
+        }
+        for (VirtualCpu cpu : cpus) {
+            if (wake(cpu)) {
+                return;
             }
-        }, 0, quantum, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Verifica se outra CPU tem um processo que a CPU informada poderia roubar
+    private boolean hasStealableWork(VirtualCpu thief) {
+        for (VirtualCpu cpu : cpus) {
+            if (cpu != thief && cpu.getRunQueue().hasStealable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Método que reajusta as prioridades de todos os processos prontos de acordo com a política, acorda as CPUs estacionadas
+    // que tenham trabalho e agenda o próximo reajuste. Os processos em execução ou bloqueados recebem o reajuste ao voltar à fila
+    private void boostPriorities() {
+        lastBoostTime = clock.now(); // Antes das filas: quem voltar à fila durante o reajuste também é promovido
+        for (VirtualCpu cpu : cpus) {
+            cpu.getRunQueue().reprioritize(policy::boost);
+        }
+        for (VirtualCpu cpu : cpus) {
+            if (idleCpus.get() == 0) {
+                break;
+            }
+            if (!cpu.getRunQueue().isEmpty() || hasStealableWork(cpu)) {
+                wake(cpu); // Um despacho concorrente pode ter estacionado a CPU durante o reajuste
+            }
+        }
+        scheduleBoost((long) policy.getBoostInterval() * quantum);
     }
 
-    // Método que executa um processo
-    private void executeProcess(Process process) {
+    // Método que aplica o reajuste periódico perdido por um processo que estava em execução ou bloqueado quando ele ocorreu
+    private void applyMissedBoost(Process process) {
+        if (process.getBurstStartTime() < lastBoostTime) {
+            policy.boost(process);
+        }
+    }
+
+    // Método que rouba um processo sem afinidade da CPU com a maior fila de prontos
+    private Process steal(VirtualCpu thief) {
+        VirtualCpu victim = null;
+        for (VirtualCpu cpu : cpus) {
+            if (cpu != thief && cpu.getRunQueue().size() > 0 && (victim == null || cpu.getRunQueue().size() > victim.getRunQueue().size())) {
+                victim = cpu; // Escolhe a CPU mais carregada
+            }
+        }
+        return victim == null ? null : victim.getRunQueue().pollStealable();
+    }
+
+    // Método que escolhe a fila de prontos de um processo: a CPU fixada, a última CPU usada ou a menos carregada
+    private void enqueueReady(Process process) {
+        int target = process.getAffinity() >= 0 ? process.getAffinity() % cpus.length : process.getLastCpu();
+        if (target < 0) {
+            target = 0;
+            for (int i = 1; i < cpus.length; i++) {
+                if (cpus[i].getRunQueue().size() < cpus[target].getRunQueue().size()) {
+                    target = i; // Escolhe a CPU com a menor fila
+                }
+            }
+        }
+        process.setState(ProcessState.READY); // O processo passa a estar pronto
+        process.markReady(clock.now()); // Marca a entrada na fila de prontos
+        cpus[target].getRunQueue().add(process); // Adiciona o processo à fila da CPU escolhida
+        wakeFor(process, target); // Acorda uma CPU estacionada, se houver
+    }
+
+    // Método que executa um processo na CPU informada e agenda o próximo despacho dessa CPU
+    private void executeProcess(Process process, VirtualCpu cpu) {
         if (process.hasNextInstruction()) { // Verifica se o processo tem mais instruções
-            String instruction = process.getNextInstruction(); // Obtém a próxima instrução
-            if (instruction.startsWith("execute")) { // Verifica se a instrução é de execução
-                outputConsumer.accept("Executing: " + instruction); // Exibe mensagem de execução
-                process.incrementInstructionPointer(); // Incrementa o apontador de instruções
+            int opcode = process.getNextOpcode(); // Obtém o opcode da próxima instrução
+            if (opcode == ProgramCode.EXECUTE) { // Verifica se a instrução é de execução
+                int timeSlice = policy.getTimeSlice(process); // Fatia de tempo definida pela política
+                int units = Math.min(timeSlice, process.getNextOperand()); // Executa até o fim da fatia ou da sequência de "execute"
+                outputConsumer.accept("Executing: " + process.getId()); // Exibe mensagem de execução
+                process.incrementInstructionPointer(units); // Avança o apontador de instruções
 
-                long startTime = System.currentTimeMillis(); // Marca o início da execução
-                scheduler.schedule(() -> {
-                    long endTime = System.currentTimeMillis(); // Marca o fim da execução
-                    process.addCpuTime(endTime - startTime); // Adiciona o tempo de CPU ao processo
-
-                    if (process.hasNextInstruction()) {
-                        // Processos CPU-bound voltam ao final da fila
-                        process.setPriority(0); // Reseta a prioridade do processo CPU-bound
-                        readyQueue.add(process); // Adiciona o processo de volta à fila de prontos
-                    } else {
-                        finishedProcesses.add(process); // Adiciona o processo à lista de finalizados
-                        outputConsumer.accept("Process finished: " + process.getId()); // Exibe mensagem de finalização
-                        outputConsumer.accept("Process " + process.getId() + " is " + process.getProcessType() + "."); // Exibe o tipo do processo (CPU-bound ou I/O-bound)
-                    }
-                }, quantum, TimeUnit.MILLISECONDS);
-            } else if (instruction.startsWith("block")) { // Verifica se a instrução é de bloqueio
-                int blockTime = Integer.parseInt(instruction.split(" ")[1]) * quantum; // Calcula o tempo de bloqueio
-                outputConsumer.accept("Blocking for " + blockTime + "ms: " + instruction); // Exibe mensagem de bloqueio
+                long delay = (long) units * quantum; // Duração da execução
+                long now = clock.now(); // Lido uma vez: em tempo real, o relógio pode avançar entre as leituras
+                process.setState(ProcessState.RUNNING); // O processo passa a ocupar a CPU
+                process.startBurst(now, units == timeSlice); // Marca o início da execução
+                cpu.setRunning(process);
+                // A duração vai no evento: em tempo real, o evento pode ocorrer antes de o evento pendente ser registrado no processo
+                process.setPendingEvent(now + delay, clock.schedule(EventType.QUANTUM_EXPIRY, () -> completeBurst(process, cpu, delay), delay));
+                return;
+            } else if (opcode == ProgramCode.BLOCK) { // Verifica se a instrução é de bloqueio
+                int operand = process.getNextOperand(); // Dispositivo e número de quanta
+                int blockTime = ProgramCode.blockUnits(operand) * quantum; // Calcula o tempo de bloqueio
+                outputConsumer.accept("Blocking for " + blockTime + "ms: " + process.getId()); // Exibe mensagem de bloqueio
                 process.incrementInstructionPointer(); // Incrementa o apontador de instruções
 
-                long startTime = System.currentTimeMillis(); // Marca o início do bloqueio
-                scheduler.schedule(() -> {
-                    long endTime = System.currentTimeMillis(); // Marca o fim do bloqueio
-                    process.addIoTime(endTime - startTime); // Adiciona o tempo de I/O ao processo
-
-                    // Processos I/O-bound retornam com prioridade aumentada
-                    process.setPriority(process.getPriority() + 1); // Aumenta a prioridade do processo I/O-bound
-                    readyQueue.add(process); // Adiciona o processo de volta à fila de prontos
-                }, blockTime, TimeUnit.MILLISECONDS);
+                process.setState(ProcessState.BLOCKED); // O processo passa a aguardar a E/S
+                trace(TraceEventType.BLOCK, process, cpu.getId());
+                process.startBurst(clock.now(), false); // Marca o início do bloqueio
+                runningCount.decrementAndGet(); // O processo deixa a CPU
+                block(process, ProgramCode.blockDevice(operand), ProgramCode.blockUnits(operand)); // Bloqueados continuam contando na carga do escalonador
             }
         } else {
-            finishedProcesses.add(process); // Adiciona o processo à lista de finalizados
-            outputConsumer.accept("Process finished: " + process.getId()); // Exibe mensagem de finalização
-            outputConsumer.accept("Process " + process.getId() + " is " + process.getProcessType() + "."); // Exibe o tipo do processo (CPU-bound ou I/O-bound)
+            runningCount.decrementAndGet(); // O processo deixa a CPU
+            finish(process); // Finaliza o processo
+        }
+        scheduleDispatch(cpu, quantum); // O bloqueio ou a finalização ocupam o quantum da CPU
+    }
+
+    // Método chamado ao fim de uma execução de duração pretendida intended: devolve o processo à fila de prontos ou o finaliza,
+    // e libera a CPU
+    private void completeBurst(Process process, VirtualCpu cpu, long intended) {
+        // Contabiliza a duração pretendida; em tempo real, o atraso do evento fica registrado como divergência
+        instrumentation.recordBurst(process, false, intended, clock.now() - process.getBurstStartTime());
+        process.addCpuTime(intended); // Adiciona o tempo de CPU ao processo
+        metrics.recordCpuBusy(intended); // Contabiliza a CPU ocupada
+        cpu.setRunning(null);
+        runningCount.decrementAndGet(); // O processo deixa a CPU
+
+        if (process.hasNextInstruction()) {
+            // Processos CPU-bound voltam ao final da fila, com a prioridade ajustada pela política
+            policy.onCpuBurst(process, process.isFullSlice());
+            applyMissedBoost(process); // Um reajuste durante a execução vale depois do ajuste da execução
+            trace(TraceEventType.PREEMPT, process, cpu.getId());
+            enqueueReady(process); // Adiciona o processo de volta à fila de prontos
+        } else {
+            finish(process); // Finaliza o processo
+        }
+        dispatch(cpu); // A CPU fica livre para o próximo processo
+    }
+
+    // Método que envia a requisição de E/S ao dispositivo: o atendimento começa agora ou quando o dispositivo liberar uma vaga
+    private void block(Process process, int deviceIndex, int units) {
+        blockedCount.incrementAndGet();
+        synchronized (ioWheel) {
+            long now = clock.now();
+            if (device(deviceIndex).request(process, units, now)) {
+                startIo(process, now + (long) units * quantum);
+            }
+        }
+    }
+
+    // Método que coloca um processo em atendimento na roda de E/S e antecipa o próximo tick, se necessário; chamado com o monitor da roda
+    private void startIo(Process process, long time) {
+        long expiryTime = ioWheel.add(process, time); // Expira no primeiro tick a partir do fim da E/S
+        if (ioTickTime < 0 || expiryTime < ioTickTime) {
+            scheduleIoTick(expiryTime);
+        }
+    }
+
+    // Método que retorna o dispositivo com o índice informado, criando-o com a configuração padrão (uma vaga, FIFO) se não foi configurado;
+    // chamado com o monitor da roda
+    private IoDevice device(int index) {
+        IoDevice device = devices[index];
+        if (device == null) {
+            device = new IoDevice(IoDeviceRegistry.nameOf(index), IoDevice.Discipline.FIFO, 1);
+            devices[index] = device;
+        }
+        return device;
+    }
+
+    // Método que agenda o próximo tick da roda de E/S; chamado com o monitor da roda
+    private void scheduleIoTick(long time) {
+        long generation = ++ioTickGeneration; // Invalida o tick agendado anteriormente
+        ioTickTime = time;
+        ioTickSequence = clock.schedule(EventType.IO_COMPLETION, () -> ioTick(generation), Math.max(0, time - clock.now()));
+    }
+
+    // Método chamado a cada tick da roda de E/S com processos: conclui as E/S que expiraram, passa as vagas liberadas
+    // aos próximos da fila de cada dispositivo e agenda o próximo tick
+    private void ioTick(long generation) {
+        List<Process> expired;
+        long[] wakeTimes; // Instante do tick em que cada processo expirado deveria acordar
+        synchronized (ioWheel) {
+            if (generation != ioTickGeneration) {
+                return; // Tick substituído por um anterior
+            }
+            long now = clock.now();
+            long due = ioTickTime; // Primeiro tick com processos; nenhum processo expirado acorda antes dele
+            expired = ioWheel.advance(now);
+            wakeTimes = new long[expired.size()];
+            for (int i = 0; i < wakeTimes.length; i++) {
+                wakeTimes[i] = Math.max(due, ioWheel.alignUp(expired.get(i).getPendingEventTime()));
+            }
+            for (Process process : expired) {
+                Process next = device(ProgramCode.blockDevice(process.getBlockOperand())).release(now);
+                if (next != null) {
+                    startIo(next, now + (long) ProgramCode.blockUnits(next.getBlockOperand()) * quantum);
+                }
+            }
+            long next = ioWheel.nextExpiryTime();
+            if (next >= 0) {
+                scheduleIoTick(next);
+            } else {
+                ioTickTime = -1; // Roda vazia: o próximo bloqueio agenda o tick
+            }
+        }
+        for (int i = 0; i < wakeTimes.length; i++) {
+            completeIo(expired.get(i), wakeTimes[i]);
+        }
+    }
+
+    // Método chamado ao fim de um bloqueio, cujo tick de despertar é wakeTime: devolve o processo à fila de prontos
+    private void completeIo(Process process, long wakeTime) {
+        blockedCount.decrementAndGet(); // O processo deixa de estar bloqueado
+        long start = process.getBurstStartTime();
+        // A divergência compara com o tick de despertar; a contabilização usa o fim exato da E/S, sem o arredondamento ao tick
+        instrumentation.recordBurst(process, true, wakeTime - start, clock.now() - start);
+        process.addIoTime(process.getPendingEventTime() - start); // Espera na fila do dispositivo mais o atendimento
+
+        // Processos I/O-bound retornam com a prioridade ajustada pela política
+        policy.onIoCompleted(process);
+        applyMissedBoost(process); // Um reajuste durante o bloqueio também promove o processo
+        trace(TraceEventType.UNBLOCK, process, -1);
+        enqueueReady(process); // Adiciona o processo de volta à fila de prontos
+    }
+
+    // Método que move um processo para a lista de finalizados
+    private void finish(Process process) {
+        process.setState(ProcessState.FINISHED); // O processo terminou
+        process.setCompletionTime(clock.now()); // Registra o instante de finalização
+        trace(TraceEventType.FINISH, process, process.getLastCpu());
+        metrics.recordFinished(process); // Registra os tempos de retorno e de espera
+        addFinished(process); // Adiciona o processo à lista de finalizados
+        outputConsumer.accept("Process finished: " + process.getId()); // Exibe mensagem de finalização
+        outputConsumer.accept("Process " + process.getId() + " is " + process.getProcessType() + "."); // Exibe o tipo do processo (CPU-bound ou I/O-bound)
+        capacityListener.run(); // Avisa que há capacidade livre
+    }
+
+    // Método que registra uma decisão no trace, se ele estiver ativado
+    private void trace(TraceEventType type, Process process, int cpu) {
+        TraceRecorder recorder = traceRecorder;
+        if (recorder != null) {
+            recorder.record(type, clock.now(), process, cpu);
         }
     }
 
     // Método para adicionar um processo à fila de prontos
     @Override
     public void addProcess(Process process) {
-        readyQueue.add(process); // Adiciona o processo à fila de prontos
+        policy.onAdmitted(process); // Define a prioridade inicial de acordo com a política
+        trace(TraceEventType.ADMIT, process, -1);
+        enqueueReady(process); // Adiciona o processo à fila de prontos de uma CPU
     }
 
     // Método para obter a carga de processos
     @Override
     public int getProcessLoad() {
-        return readyQueue.size() + blockedQueue.size(); // Retorna o número de processos na fila de prontos e bloqueados
+        return getReadyCount() + runningCount.get() + blockedCount.get(); // Retorna o número de processos prontos, em execução e bloqueados
+    }
+
+    // Retorna o número de processos nas filas de prontos de todas as CPUs
+    public int getReadyCount() {
+        int ready = 0;
+        for (VirtualCpu cpu : cpus) {
+            ready += cpu.getRunQueue().size(); // Processos prontos em cada CPU
+        }
+        return ready;
+    }
+
+    // Define o ouvinte avisado quando um processo termina, liberando capacidade
+    public void setCapacityListener(Runnable capacityListener) {
+        this.capacityListener = capacityListener;
+    }
+
+    // Ativa (ou, com null, desativa) o trace das decisões de escalonamento
+    public void setTraceRecorder(TraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+    }
+
+    // Retorna o trace das decisões de escalonamento (null se desativado)
+    public TraceRecorder getTraceRecorder() {
+        return traceRecorder;
+    }
+
+    // Retorna a instrumentação do escalonador
+    public SchedulerInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    // Retorna as métricas agregadas da simulação
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    // Retorna uma cópia imutável das métricas no instante atual
+    public MetricsSnapshot getMetricsSnapshot() {
+        return metrics.snapshot(clock.now());
+    }
+
+    // Retorna a política de escalonamento
+    public SchedulingPolicy getPolicy() {
+        return policy;
+    }
+
+    // Retorna o número de CPUs simuladas
+    public int getCpuCount() {
+        return cpus.length;
+    }
+
+    // Retorna o número de processos finalizados
+    public int getFinishedCount() {
+        return finishedCount.get();
+    }
+
+    // Retorna a fila de processos finalizados
+    public Queue<Process> getFinishedProcesses() {
+        return finishedProcesses;
+    }
+
+    // Retorna os últimos processos finalizados (no máximo RECENTLY_FINISHED), do mais antigo ao mais recente, sem percorrer a
+    // lista de finalizados; durante a simulação, uma posição pode já trazer um processo finalizado depois da leitura do contador
+    public List<Process> getRecentlyFinished() {
+        int count = finishedCount.get();
+        List<Process> processes = new ArrayList<>(Math.min(count, RECENTLY_FINISHED));
+        for (int i = Math.max(0, count - RECENTLY_FINISHED); i < count; i++) {
+            Process process = recentlyFinished.get(i % RECENTLY_FINISHED);
+            if (process != null) { // Posição reservada, mas ainda não escrita
+                processes.add(process);
+            }
+        }
+        return processes;
+    }
+
+    // Retorna uma cópia dos processos em atendimento nos dispositivos, na ordem da roda de E/S; o fim do bloqueio é o evento pendente de cada processo
+    public List<Process> getBlockedProcesses() {
+        synchronized (ioWheel) {
+            return ioWheel.snapshot();
+        }
+    }
+
+    // Configura um dispositivo de E/S; deve ser chamado antes que algum processo o use
+    public void configureDevice(IoDevice device) {
+        synchronized (ioWheel) {
+            devices[IoDeviceRegistry.indexOf(device.getName())] = device;
+        }
+    }
+
+    // Retorna os dispositivos de E/S configurados ou já usados, pelo índice do registro
+    public List<IoDevice> getDevices() {
+        List<IoDevice> used = new ArrayList<>();
+        synchronized (ioWheel) {
+            for (IoDevice device : devices) {
+                if (device != null) {
+                    used.add(device);
+                }
+            }
+        }
+        return used;
+    }
+
+    // Retorna o número de processos bloqueados, em atendimento ou nas filas dos dispositivos
+    public int getBlockedCount() {
+        return blockedCount.get();
+    }
+
+    // Retorna o próximo tick da roda de E/S a ser processado
+    public long getIoWheelTick() {
+        synchronized (ioWheel) {
+            return ioWheel.getCurrentTick();
+        }
+    }
+
+    // Retorna o instante do próximo tick da roda de E/S (-1 se a roda estiver vazia)
+    public long getIoTickTime() {
+        synchronized (ioWheel) {
+            return ioTickTime;
+        }
+    }
+
+    // Retorna a sequência do próximo tick da roda de E/S
+    public long getIoTickSequence() {
+        synchronized (ioWheel) {
+            return ioTickSequence;
+        }
+    }
+
+    // Retorna a CPU simulada informada
+    public VirtualCpu getCpu(int id) {
+        return cpus[id];
+    }
+
+    // Retorna o quantum de tempo
+    public int getQuantum() {
+        return quantum;
+    }
+
+    // Retorna o instante do próximo reajuste periódico de prioridades
+    public long getNextBoostTime() {
+        return nextBoostTime;
+    }
+
+    // Retorna a sequência do próximo reajuste periódico de prioridades
+    public long getNextBoostSequence() {
+        return nextBoostSequence;
+    }
+
+    // Restaura um processo pronto na fila da CPU informada, sem alterar sua contabilização
+    public void restoreReady(Process process, int cpuId) {
+        cpus[cpuId].getRunQueue().add(process);
+    }
+
+    // Restaura um processo finalizado
+    public void restoreFinished(Process process) {
+        addFinished(process);
+    }
+
+    // Método que adiciona um processo à lista de finalizados e aos finalizados recentes
+    private void addFinished(Process process) {
+        finishedProcesses.add(process);
+        int index = finishedCount.getAndIncrement(); // Posição do processo na ordem de finalização
+        recentlyFinished.set(index % RECENTLY_FINISHED, process);
+    }
+
+    // Restaura um processo em execução na CPU informada e reagenda o fim da execução no instante guardado
+    public void resumeRunning(Process process, int cpuId) {
+        VirtualCpu cpu = cpus[cpuId];
+        long delay = process.getPendingEventTime() - clock.now();
+        long intended = process.getPendingEventTime() - process.getBurstStartTime(); // Duração da execução inteira, não só do restante
+        cpu.setRunning(process);
+        runningCount.incrementAndGet();
+        process.setPendingEvent(process.getPendingEventTime(), clock.schedule(EventType.QUANTUM_EXPIRY, () -> completeBurst(process, cpu, intended), delay));
+    }
+
+    // Restaura o próximo tick da roda de E/S a ser processado; deve ser chamado antes de restaurar os bloqueados
+    public void restoreIoWheelTick(long tick) {
+        synchronized (ioWheel) {
+            ioWheel.restoreCurrentTick(tick);
+        }
+    }
+
+    // Restaura um processo em atendimento na roda de E/S, no instante de fim guardado, sem agendar o tick
+    public void restoreBlocked(Process process) {
+        blockedCount.incrementAndGet();
+        synchronized (ioWheel) {
+            device(ProgramCode.blockDevice(process.getBlockOperand())).restoreBusy();
+            ioWheel.add(process, process.getPendingEventTime());
+        }
+    }
+
+    // Restaura um processo na fila do seu dispositivo; deve ser chamado na ordem de atendimento
+    public void restoreQueuedIo(Process process) {
+        blockedCount.incrementAndGet();
+        synchronized (ioWheel) {
+            int operand = process.getBlockOperand();
+            device(ProgramCode.blockDevice(operand)).restoreQueued(process, ProgramCode.blockUnits(operand), process.getBurstStartTime());
+        }
+    }
+
+    // Reagenda o tick da roda de E/S no instante informado
+    public void resumeIoTick(long time) {
+        synchronized (ioWheel) {
+            scheduleIoTick(time);
+        }
+    }
+
+    // Restaura uma CPU estacionada
+    public void restoreIdle(int cpuId) {
+        cpus[cpuId].park();
+        idleCpus.incrementAndGet();
+    }
+
+    // Reagenda o despacho de uma CPU sem processo em execução no instante informado
+    public void resumeDispatch(int cpuId, long time) {
+        scheduleDispatch(cpus[cpuId], time - clock.now());
+    }
+
+    // Reagenda o reajuste periódico de prioridades no instante informado
+    public void resumeBoost(long time) {
+        lastBoostTime = time - (long) policy.getBoostInterval() * quantum; // Instante do reajuste anterior (ou o início)
+        scheduleBoost(time - clock.now());
+    }
+
+    // Retorna o relógio usado pelo escalonador
+    public SimulationClock getClock() {
+        return clock;
     }
 
     // Método para exibir informações
@@ -0,0 +1,290 @@
+import java.io.BufferedInputStream; // Leitura com buffer de um fluxo de bytes.
+import java.io.BufferedOutputStream; // Escrita com buffer em um fluxo de bytes.
+import java.io.DataInputStream; // Leitura de tipos primitivos de um fluxo binário.
+import java.io.DataOutputStream; // Escrita de tipos primitivos em um fluxo binário.
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.nio.file.Files; // Fornece métodos utilitários para operações com arquivos.
+import java.nio.file.Path; // Representa o caminho de um arquivo.
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.HashMap; // Implementação de mapa baseada em tabela hash.
+import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.Map; // Interface que representa um mapa de chaves e valores.
+import java.util.function.Consumer; // Fornece a interface funcional Consumer usada para passar funções lambda.
+
+// Checkpoint binário de uma simulação em lote: grava o estado completo (filas, processos, eventos pendentes, métricas e relógio)
+// e o restaura para continuar exatamente de onde parou. Os processos são gravados e lidos um a um, sem cópia intermediária,
+// e cada programa distinto é gravado uma única vez.
+public final class SimulationCheckpoint {
+    private static final int MAGIC = 0x53434B50; // "SCKP"
+    private static final int VERSION = 7; // Versão do formato
+
+    // Marcadores dos registros do checkpoint
+    private static final byte END = 0; // Fim dos registros
+    private static final byte PROGRAM = 1; // Programa ainda não gravado; recebe o próximo índice
+    private static final byte PENDING_ARRIVAL = 2; // Processo com chegada agendada
+    private static final byte WAITING = 3; // Processo na fila de longo prazo
+    private static final byte READY = 4; // Processo na fila de prontos de uma CPU
+    private static final byte RUNNING = 5; // Processo em execução em uma CPU
+    private static final byte BLOCKED = 6; // Processo em atendimento em um dispositivo, na ordem da roda de E/S
+    private static final byte FINISHED = 7; // Processo finalizado
+    private static final byte QUEUED_IO = 8; // Processo na fila de um dispositivo, na ordem de atendimento
+
+    // Evento a reagendar na restauração, ordenado como no relógio original
+    private static final class PendingEvent implements Comparable<PendingEvent> {
+        private final long time; // Instante do evento
+        private final long sequence; // Sequência original do evento
+        private final Runnable resume; // Ação que reagenda o evento
+
+        // Construtor que inicializa o evento
+        private PendingEvent(long time, long sequence, Runnable resume) {
+            this.time = time;
+            this.sequence = sequence;
+            this.resume = resume;
+        }
+
+        // Ordena pelo instante e, em caso de empate, pela sequência original
+        @Override
+        public int compareTo(PendingEvent other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    // Construtor privado: a classe contém apenas métodos estáticos
+    private SimulationCheckpoint() {
+    }
+
+    // Grava o estado da simulação no arquivo informado; deve ser chamado entre eventos, por exemplo depois de runUntil
+    public static void write(BatchSimulation simulation, Path path) throws IOException {
+        ShortTermScheduler shortTermScheduler = simulation.getShortTermScheduler();
+        LongTermScheduler longTermScheduler = simulation.getLongTermScheduler();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            // Configuração e relógio
+            out.writeInt(shortTermScheduler.getQuantum());
+            out.writeInt(longTermScheduler.getMaxLoad());
+            out.writeInt(shortTermScheduler.getCpuCount());
+            out.writeUTF(shortTermScheduler.getPolicy().getName());
+            out.writeInt(simulation.getSubmittedProcesses());
+            out.writeLong(simulation.getClock().now());
+
+            // Eventos que não pertencem a um processo
+            out.writeBoolean(longTermScheduler.isAdmissionPending());
+            out.writeLong(longTermScheduler.getAdmissionTime());
+            out.writeLong(longTermScheduler.getAdmissionSequence());
+            out.writeLong(shortTermScheduler.getNextBoostTime());
+            out.writeLong(shortTermScheduler.getNextBoostSequence());
+            out.writeLong(shortTermScheduler.getIoWheelTick());
+            out.writeLong(shortTermScheduler.getIoTickTime());
+            out.writeLong(shortTermScheduler.getIoTickSequence());
+
+            // Dispositivos de E/S: os nomes do registro, para que os índices dos programas tenham o mesmo significado, e a configuração
+            List<String> deviceNames = IoDeviceRegistry.names();
+            out.writeShort(deviceNames.size());
+            for (String name : deviceNames) {
+                out.writeUTF(name);
+            }
+            List<IoDevice> devices = shortTermScheduler.getDevices();
+            out.writeShort(devices.size());
+            for (IoDevice device : devices) {
+                out.writeUTF(device.getName());
+                out.writeByte(device.getDiscipline().ordinal());
+                out.writeInt(device.getConcurrency());
+                device.writeState(out);
+            }
+            for (int i = 0; i < shortTermScheduler.getCpuCount(); i++) {
+                VirtualCpu cpu = shortTermScheduler.getCpu(i);
+                out.writeBoolean(cpu.isIdle()); // CPU estacionada, sem despacho agendado
+                out.writeLong(cpu.getNextDispatchTime()); // Usado apenas se a CPU estiver sem processo e não estacionada
+                out.writeLong(cpu.getNextDispatchSequence());
+            }
+            shortTermScheduler.getMetrics().writeState(out);
+
+            // Processos, agrupados pelo lugar onde estão
+            Map<ProgramImage, Integer> programs = new HashMap<>(); // Índice de cada programa já gravado
+            for (Process process : longTermScheduler.getPendingArrivals()) {
+                writeProcess(out, programs, PENDING_ARRIVAL, -1, process);
+            }
+            for (Process process : longTermScheduler.getCpuBoundQueue()) {
+                writeProcess(out, programs, WAITING, -1, process);
+            }
+            for (Process process : longTermScheduler.getIoBoundQueue()) {
+                writeProcess(out, programs, WAITING, -1, process);
+            }
+            for (int i = 0; i < shortTermScheduler.getCpuCount(); i++) {
+                VirtualCpu cpu = shortTermScheduler.getCpu(i);
+                for (Process process : cpu.getRunQueue().snapshot()) { // Na ordem de despacho
+                    writeProcess(out, programs, READY, i, process);
+                }
+                if (cpu.getRunning() != null) {
+                    writeProcess(out, programs, RUNNING, i, cpu.getRunning());
+                }
+            }
+            for (Process process : shortTermScheduler.getBlockedProcesses()) {
+                writeProcess(out, programs, BLOCKED, -1, process);
+            }
+            for (IoDevice device : devices) {
+                for (Process process : device.queued()) {
+                    writeProcess(out, programs, QUEUED_IO, -1, process);
+                }
+            }
+            for (Process process : shortTermScheduler.getFinishedProcesses()) {
+                writeProcess(out, programs, FINISHED, -1, process);
+            }
+            out.writeByte(END);
+        }
+    }
+
+    // Grava um processo, precedido do seu programa se ele ainda não foi gravado
+    private static void writeProcess(DataOutputStream out, Map<ProgramImage, Integer> programs, byte record, int cpuId, Process process) throws IOException {
+        ProgramImage image = process.getProgram();
+        Integer program = programs.get(image); // Programas com o mesmo conteúdo são gravados uma vez
+        if (program == null) {
+            program = programs.size(); // Próximo índice
+            programs.put(image, program);
+            out.writeByte(PROGRAM);
+            out.writeInt(image.length());
+            for (int i = 0; i < image.length(); i++) {
+                out.writeInt(image.word(i));
+            }
+        }
+        out.writeByte(record);
+        if (record == READY || record == RUNNING) {
+            out.writeShort(cpuId);
+        }
+        out.writeUTF(process.getId());
+        out.writeInt(program);
+        process.writeState(out);
+    }
+
+    // Restaura uma simulação a partir do arquivo informado; a execução continua com run() ou runUntil()
+    public static BatchSimulation read(Path path, Consumer<String> outputConsumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a simulation checkpoint: " + path); // Lança exceção se o arquivo não for um checkpoint
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint version " + version + ": " + path); // Lança exceção se o formato for de outra versão
+            }
+
+            // Configuração e relógio
+            int quantum = in.readInt();
+            int maxLoad = in.readInt();
+            int cpuCount = in.readInt();
+            SchedulingPolicy policy = SchedulingPolicy.forName(in.readUTF());
+            BatchSimulation simulation = new BatchSimulation(quantum, maxLoad, cpuCount, policy, outputConsumer);
+            ShortTermScheduler shortTermScheduler = simulation.getShortTermScheduler();
+            LongTermScheduler longTermScheduler = simulation.getLongTermScheduler();
+            simulation.markRestored(in.readInt());
+            simulation.getClock().restoreTime(in.readLong());
+
+            // Eventos que não pertencem a um processo
+            List<PendingEvent> events = new ArrayList<>(); // Reagendados no fim, na ordem original
+            boolean admissionPending = in.readBoolean();
+            long admissionTime = in.readLong();
+            long admissionSequence = in.readLong();
+            if (admissionPending) {
+                events.add(new PendingEvent(admissionTime, admissionSequence, () -> longTermScheduler.resumeAdmission(admissionTime)));
+            }
+            long boostTime = in.readLong();
+            long boostSequence = in.readLong();
+            if (policy.getBoostInterval() > 0) {
+                events.add(new PendingEvent(boostTime, boostSequence, () -> shortTermScheduler.resumeBoost(boostTime)));
+            }
+            shortTermScheduler.restoreIoWheelTick(in.readLong()); // Antes dos bloqueados, para que voltem às mesmas posições
+            long ioTickTime = in.readLong();
+            long ioTickSequence = in.readLong();
+            if (ioTickTime >= 0) {
+                events.add(new PendingEvent(ioTickTime, ioTickSequence, () -> shortTermScheduler.resumeIoTick(ioTickTime)));
+            }
+
+            // Dispositivos de E/S
+            List<String> deviceNames = new ArrayList<>();
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                deviceNames.add(in.readUTF());
+            }
+            try {
+                IoDeviceRegistry.restore(deviceNames);
+            } catch (IllegalStateException e) {
+                throw new IOException(e.getMessage() + ": " + path, e); // Os programas já carregados nesta JVM usam outros índices
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                IoDevice device = new IoDevice(in.readUTF(), IoDevice.Discipline.values()[in.readByte()], in.readInt());
+                device.readState(in);
+                shortTermScheduler.configureDevice(device);
+            }
+            boolean[] idle = new boolean[cpuCount];
+            long[] dispatchTimes = new long[cpuCount];
+            long[] dispatchSequences = new long[cpuCount];
+            for (int i = 0; i < cpuCount; i++) {
+                idle[i] = in.readBoolean();
+                dispatchTimes[i] = in.readLong();
+                dispatchSequences[i] = in.readLong();
+            }
+            shortTermScheduler.getMetrics().readState(in);
+
+            // Processos
+            List<ProgramImage> programs = new ArrayList<>(); // Programas na ordem em que foram gravados
+            boolean[] busy = new boolean[cpuCount]; // CPUs com processo em execução
+            byte record;
+            while ((record = in.readByte()) != END) {
+                if (record == PROGRAM) {
+                    int[] code = new int[in.readInt()];
+                    for (int i = 0; i < code.length; i++) {
+                        code[i] = in.readInt();
+                    }
+                    programs.add(new ProgramImage(code)); // Compartilhado pelos processos restaurados que o referenciam
+                    continue;
+                }
+                int cpuId = record == READY || record == RUNNING ? in.readUnsignedShort() : -1;
+                String id = in.readUTF();
+                Process process = new Process(id, programs.get(in.readInt()));
+                process.readState(in);
+                switch (record) {
+                    case PENDING_ARRIVAL:
+                        events.add(new PendingEvent(process.getPendingEventTime(), process.getPendingEventSequence(), () -> longTermScheduler.resumeArrival(process)));
+                        break;
+                    case WAITING:
+                        longTermScheduler.restoreWaiting(process);
+                        break;
+                    case READY:
+                        shortTermScheduler.restoreReady(process, cpuId);
+                        break;
+                    case RUNNING:
+                        busy[cpuId] = true;
+                        events.add(new PendingEvent(process.getPendingEventTime(), process.getPendingEventSequence(), () -> shortTermScheduler.resumeRunning(process, cpuId)));
+                        break;
+                    case BLOCKED:
+                        shortTermScheduler.restoreBlocked(process); // O fim do bloqueio é tratado pelo tick da roda
+                        break;
+                    case QUEUED_IO:
+                        shortTermScheduler.restoreQueuedIo(process);
+                        break;
+                    case FINISHED:
+                        shortTermScheduler.restoreFinished(process);
+                        break;
+                    default:
+                        throw new IOException("Corrupt checkpoint, unknown record " + record + ": " + path); // Lança exceção se o registro for desconhecido
+                }
+            }
+            for (int i = 0; i < cpuCount; i++) {
+                if (idle[i]) {
+                    shortTermScheduler.restoreIdle(i);
+                } else if (!busy[i]) {
+                    int cpuId = i;
+                    events.add(new PendingEvent(dispatchTimes[i], dispatchSequences[i], () -> shortTermScheduler.resumeDispatch(cpuId, dispatchTimes[cpuId])));
+                }
+            }
+
+            // Reagenda os eventos na ordem original, para que eventos do mesmo instante sejam processados na mesma ordem
+            events.sort(null);
+            for (PendingEvent event : events) {
+                event.resume.run();
+            }
+            return simulation;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+// Abstração do tempo da simulação, usada pelos escalonadores para agendar eventos
+public interface SimulationClock {
+    long now(); // Retorna o instante atual da simulação em milissegundos
+    long schedule(EventType type, Runnable action, long delay); // Agenda uma ação após o atraso informado e retorna a sequência do evento (ordem entre eventos do mesmo instante)
+    void scheduleAtFixedRate(EventType type, Runnable action, long initialDelay, long period); // Agenda uma ação periódica
+    void pause(); // Congela o tempo e os eventos pendentes
+    void resume(); // Retoma os eventos pendentes a partir do ponto em que foram congelados
+    boolean isPaused(); // Verifica se o relógio está em pausa
+    void shutdown(); // Descarta os eventos pendentes e libera os recursos do relógio
+    void setInstrumentation(SchedulerInstrumentation instrumentation); // Define onde registrar o atraso e a duração de cada evento (null para nenhum)
+}
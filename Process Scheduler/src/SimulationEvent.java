@@ -0,0 +1,44 @@
+// Evento pendente na fila do relógio virtual
+public class SimulationEvent implements Comparable<SimulationEvent> {
+    private final long time; // Instante virtual em que o evento ocorre
+    private final long sequence; // Ordem de criação, usada para desempate determinístico
+    private final EventType type; // Tipo do evento
+    private final Runnable action; // Ação executada quando o evento ocorre
+    private final long period; // Período de repetição (0 para eventos únicos)
+
+    // Construtor que inicializa o evento
+    public SimulationEvent(long time, long sequence, EventType type, Runnable action, long period) {
+        this.time = time;
+        this.sequence = sequence;
+        this.type = type;
+        this.action = action;
+        this.period = period;
+    }
+
+    // Retorna o instante do evento
+    public long getTime() {
+        return time;
+    }
+
+    // Retorna o tipo do evento
+    public EventType getType() {
+        return type;
+    }
+
+    // Retorna a ação do evento
+    public Runnable getAction() {
+        return action;
+    }
+
+    // Retorna o período de repetição do evento
+    public long getPeriod() {
+        return period;
+    }
+
+    // Ordena os eventos pelo instante e, em caso de empate, pela ordem de criação
+    @Override
+    public int compareTo(SimulationEvent other) {
+        int byTime = Long.compare(time, other.time);
+        return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+    }
+}
@@ -0,0 +1,111 @@
+import java.io.DataInput; // Interface para ler tipos primitivos de um fluxo binário.
+import java.io.DataOutput; // Interface para escrever tipos primitivos em um fluxo binário.
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.util.concurrent.atomic.AtomicLong; // Contador atômico de 64 bits.
+
+// Métricas agregadas do escalonador de curto prazo, registradas com contadores e histogramas que não alocam memória por evento.
+// O retorno e a resposta contam a partir da chegada ao escalonador de longo prazo; a espera conta só a fila de prontos, e a
+// espera na fila de longo prazo (da chegada à admissão) é registrada à parte.
+public class SimulationMetrics {
+    private final int cpuCount; // Número de CPUs simuladas
+    private final LatencyHistogram turnaroundTimes; // Tempo entre a chegada e a finalização
+    private final LatencyHistogram waitingTimes; // Tempo total na fila de prontos
+    private final LatencyHistogram admissionTimes; // Tempo entre a chegada e a admissão no escalonador de curto prazo
+    private final LatencyHistogram responseTimes; // Tempo entre a chegada e o primeiro despacho
+    private final LatencyHistogram readyQueueLengths; // Tamanho da fila de prontos observado a cada despacho
+    private final QueueLengthSeries queueLengths; // Tamanho das filas ao longo do tempo
+    private final AtomicLong dispatches; // Número de despachos
+    private final AtomicLong finished; // Número de processos finalizados
+    private final AtomicLong cpuBusyTime; // Tempo total de CPU ocupada (somado entre as CPUs)
+    private volatile long startTime; // Instante de início da simulação
+
+    // Construtor que inicializa as métricas; queueSampleInterval é o intervalo inicial da série de tamanhos de fila
+    public SimulationMetrics(int cpuCount, long queueSampleInterval) {
+        this.cpuCount = cpuCount;
+        this.turnaroundTimes = new LatencyHistogram();
+        this.waitingTimes = new LatencyHistogram();
+        this.admissionTimes = new LatencyHistogram();
+        this.responseTimes = new LatencyHistogram();
+        this.readyQueueLengths = new LatencyHistogram();
+        this.queueLengths = new QueueLengthSeries(4096, queueSampleInterval);
+        this.dispatches = new AtomicLong();
+        this.finished = new AtomicLong();
+        this.cpuBusyTime = new AtomicLong();
+    }
+
+    // Marca o início da simulação
+    public void start(long now) {
+        startTime = now;
+    }
+
+    // Registra um despacho e o tamanho das filas nesse instante
+    public void recordDispatch(long now, int readyLength, int running) {
+        dispatches.incrementAndGet();
+        readyQueueLengths.record(readyLength);
+        queueLengths.sample(now, readyLength, running);
+    }
+
+    // Registra o primeiro despacho de um processo
+    public void recordResponse(long responseTime) {
+        responseTimes.record(responseTime);
+    }
+
+    // Registra tempo de CPU ocupada
+    public void recordCpuBusy(long time) {
+        cpuBusyTime.addAndGet(time);
+    }
+
+    // Registra a finalização de um processo
+    public void recordFinished(Process process) {
+        finished.incrementAndGet();
+        turnaroundTimes.record(process.getCompletionTime() - process.getArrivalTime());
+        waitingTimes.record(process.getWaitingTime());
+        admissionTimes.record(process.getAdmissionTime() - process.getArrivalTime());
+    }
+
+    // Retorna uma cópia imutável das métricas no instante informado
+    public MetricsSnapshot snapshot(long now) {
+        long elapsed = Math.max(0, now - startTime);
+        return new MetricsSnapshot(elapsed, finished.get(), dispatches.get(),
+                elapsed == 0 ? 0 : finished.get() * 1000.0 / elapsed,
+                elapsed == 0 ? 0 : (double) cpuBusyTime.get() / ((double) elapsed * cpuCount),
+                new MetricsSnapshot.Distribution(turnaroundTimes),
+                new MetricsSnapshot.Distribution(waitingTimes),
+                new MetricsSnapshot.Distribution(admissionTimes),
+                new MetricsSnapshot.Distribution(responseTimes),
+                new MetricsSnapshot.Distribution(readyQueueLengths));
+    }
+
+    // Escreve as métricas em um fluxo binário
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(startTime);
+        out.writeLong(dispatches.get());
+        out.writeLong(finished.get());
+        out.writeLong(cpuBusyTime.get());
+        turnaroundTimes.writeState(out);
+        waitingTimes.writeState(out);
+        admissionTimes.writeState(out);
+        responseTimes.writeState(out);
+        readyQueueLengths.writeState(out);
+        queueLengths.writeState(out);
+    }
+
+    // Substitui as métricas pelas que foram escritas por writeState
+    public void readState(DataInput in) throws IOException {
+        startTime = in.readLong();
+        dispatches.set(in.readLong());
+        finished.set(in.readLong());
+        cpuBusyTime.set(in.readLong());
+        turnaroundTimes.readState(in);
+        waitingTimes.readState(in);
+        admissionTimes.readState(in);
+        responseTimes.readState(in);
+        readyQueueLengths.readState(in);
+        queueLengths.readState(in);
+    }
+
+    // Retorna a série de tamanhos de fila ao longo do tempo
+    public QueueLengthSeries getQueueLengths() {
+        return queueLengths;
+    }
+}
@@ -0,0 +1,50 @@
+import javax.swing.JTextArea; // Área de texto do Swing.
+import javax.swing.SwingUtilities; // Utilitários da thread de eventos do Swing.
+import javax.swing.text.BadLocationException; // Exceção para posições inválidas no documento.
+
+// Destino que acumula os eventos de um lote e os anexa à área de texto com uma única tarefa na thread de eventos,
+// mantendo no máximo maxLines linhas de histórico
+public class TextAreaSink implements EventSink {
+    private final JTextArea textArea; // Área de texto de saída
+    private final int maxLines; // Número máximo de linhas mantidas
+    private final StringBuilder batch; // Texto do lote atual
+
+    // Construtor que inicializa a área de texto e o limite de linhas
+    public TextAreaSink(JTextArea textArea, int maxLines) {
+        this.textArea = textArea;
+        this.maxLines = maxLines;
+        this.batch = new StringBuilder();
+    }
+
+    // Acumula a mensagem no lote atual
+    @Override
+    public void write(long sequence, long timestamp, String message) {
+        batch.append(message).append('\n');
+    }
+
+    // Anexa o lote à área de texto e descarta as linhas mais antigas
+    @Override
+    public void flush() {
+        if (batch.length() == 0) {
+            return;
+        }
+        String text = batch.toString();
+        batch.setLength(0);
+        SwingUtilities.invokeLater(() -> {
+            textArea.append(text);
+            int excess = textArea.getLineCount() - maxLines;
+            if (excess > 0) {
+                try {
+                    textArea.replaceRange(null, 0, textArea.getLineStartOffset(excess)); // Remove as linhas mais antigas
+                } catch (BadLocationException e) {
+                    textArea.setText(""); // Não deve ocorrer: o deslocamento vem do próprio documento
+                }
+            }
+        });
+    }
+
+    // Não há recursos a liberar
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,174 @@
+import java.util.ArrayList; // Implementação de lista baseada em array.
+import java.util.List; // Interface que representa uma lista de elementos.
+
+// Roda de temporização hierárquica para processos bloqueados. O tempo é dividido em ticks de duração fixa (um quantum);
+// cada nível tem 64 posições e cobre 64 vezes o alcance do nível anterior. Inserir é O(1); cada processo desce no máximo
+// um nível por vez até expirar no nível 0. O evento pendente de cada processo é o instante exato do fim da E/S; apenas o
+// despertar é alinhado ao tick, para que a contabilização use a duração pretendida. Não é thread-safe: o escalonador sincroniza o acesso.
+public class TimingWheel {
+    private static final int SLOT_BITS = 6; // 2^6 = 64 posições por nível
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = (63 + SLOT_BITS - 1) / SLOT_BITS; // Níveis suficientes para qualquer tick não negativo
+
+    private final long origin; // Instante do tick 0
+    private final long tickLength; // Duração de um tick
+    private final List<List<Process>> slots; // Posições de todos os níveis (nível * 64 + posição), criadas sob demanda
+    private final long[] occupied; // Por nível, um bit para cada posição não vazia
+    private long currentTick; // Próximo tick a ser processado
+    private int size; // Número de processos na roda
+
+    // Construtor que inicializa a roda vazia; origin é o instante do tick 0
+    public TimingWheel(long origin, long tickLength) {
+        if (tickLength < 1) {
+            throw new IllegalArgumentException("Tick length must be at least 1"); // Lança exceção se a duração do tick for inválida
+        }
+        this.origin = origin;
+        this.tickLength = tickLength;
+        this.slots = new ArrayList<>(LEVELS * SLOTS);
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(null);
+        }
+        this.occupied = new long[LEVELS];
+        this.currentTick = 0;
+        this.size = 0;
+    }
+
+    // Adiciona um processo cuja E/S termina no instante informado, registrado como evento pendente do processo; o processo
+    // expira no primeiro tick a partir desse instante. Retorna o instante de expiração
+    public long add(Process process, long time) {
+        long tick = Math.max(currentTick, ceilDiv(time - origin, tickLength)); // Ticks já processados expiram no próximo
+        process.setPendingEvent(time, 0);
+        insert(process, tick);
+        size++;
+        return origin + tick * tickLength;
+    }
+
+    // Retorna o instante do primeiro tick a partir do instante informado, sem considerar os ticks já processados
+    public long alignUp(long time) {
+        return origin + ceilDiv(time - origin, tickLength) * tickLength;
+    }
+
+    // Processa todos os ticks até o instante informado e retorna os processos que expiraram, em ordem
+    public List<Process> advance(long time) {
+        List<Process> expired = new ArrayList<>();
+        long targetTick = Math.floorDiv(time - origin, tickLength);
+        long tick;
+        while ((tick = nextTick()) >= 0 && tick <= targetTick) {
+            processTick(tick, expired); // Pula os ticks sem processos
+        }
+        currentTick = Math.max(currentTick, targetTick + 1);
+        size -= expired.size();
+        return expired;
+    }
+
+    // Retorna o instante do próximo tick que tem processos a expirar ou a descer de nível (-1 se a roda estiver vazia)
+    public long nextExpiryTime() {
+        long tick = nextTick();
+        return tick < 0 ? -1 : origin + tick * tickLength;
+    }
+
+    // Retorna o número de processos na roda
+    public int size() {
+        return size;
+    }
+
+    // Retorna o próximo tick a ser processado
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    // Define o próximo tick a ser processado ao restaurar um checkpoint; só é permitido com a roda vazia
+    public void restoreCurrentTick(long tick) {
+        if (size > 0) {
+            throw new IllegalStateException("Current tick can only be restored on an empty wheel"); // Lança exceção se já houver processos
+        }
+        currentTick = tick;
+    }
+
+    // Retorna os processos da roda, nível por nível e posição por posição; reinseri-los nessa ordem reproduz a roda
+    public List<Process> snapshot() {
+        List<Process> processes = new ArrayList<>(size);
+        for (List<Process> slot : slots) {
+            if (slot != null) {
+                processes.addAll(slot);
+            }
+        }
+        return processes;
+    }
+
+    // Coloca o processo no nível do dígito mais alto em que o tick de expiração difere do tick atual
+    private void insert(Process process, long tick) {
+        long difference = tick ^ currentTick;
+        int level = difference < SLOTS ? 0 : (63 - Long.numberOfLeadingZeros(difference)) / SLOT_BITS;
+        int slot = (int) (tick >>> (level * SLOT_BITS)) & (SLOTS - 1);
+        int index = level * SLOTS + slot;
+        List<Process> processes = slots.get(index);
+        if (processes == null) {
+            processes = new ArrayList<>();
+            slots.set(index, processes);
+        }
+        processes.add(process);
+        occupied[level] |= 1L << slot;
+    }
+
+    // Processa um tick: desce os processos dos níveis que começam um novo período e expira a posição do nível 0
+    private void processTick(long tick, List<Process> expired) {
+        currentTick = tick;
+        int topLevel = Math.min(LEVELS - 1, Long.numberOfTrailingZeros(tick) / SLOT_BITS); // Níveis cujo período começa neste tick
+        for (int level = topLevel; level >= 1; level--) {
+            int slot = (int) (tick >>> (level * SLOT_BITS)) & (SLOTS - 1);
+            List<Process> cascading = take(level, slot);
+            if (cascading != null) {
+                for (Process process : cascading) {
+                    // Só descem processos adicionados antes do seu tick, cujo tick é o primeiro a partir do fim da E/S
+                    insert(process, ceilDiv(process.getPendingEventTime() - origin, tickLength));
+                }
+                cascading.clear();
+            }
+        }
+        List<Process> expiring = take(0, (int) tick & (SLOTS - 1));
+        if (expiring != null) {
+            expired.addAll(expiring);
+            expiring.clear();
+        }
+        currentTick = tick + 1;
+    }
+
+    // Marca uma posição como vazia e retorna sua lista, que o chamador esvazia depois de usar (null se já estava vazia)
+    private List<Process> take(int level, int slot) {
+        if ((occupied[level] & (1L << slot)) == 0) {
+            return null;
+        }
+        occupied[level] &= ~(1L << slot);
+        return slots.get(level * SLOTS + slot); // A descida nunca insere na própria posição, então a lista pode ser reutilizada
+    }
+
+    // Retorna o próximo tick em que uma posição não vazia expira (nível 0) ou desce (níveis acima), ou -1 se a roda estiver vazia
+    private long nextTick() {
+        long next = -1;
+        for (int level = 0; level < LEVELS; level++) {
+            if (occupied[level] == 0) {
+                continue;
+            }
+            int shift = level * SLOT_BITS;
+            int digit = (int) (currentTick >>> shift) & (SLOTS - 1);
+            // A posição do próprio dígito só está ocupada se o tick atual for o início do seu período e a descida ainda não ocorreu
+            long candidates = occupied[level] & (-1L << digit);
+            if (candidates == 0) {
+                continue;
+            }
+            int highShift = shift + SLOT_BITS;
+            long base = highShift >= 64 ? 0 : (currentTick >>> highShift) << highShift;
+            long tick = base | ((long) Long.numberOfTrailingZeros(candidates) << shift);
+            if (next < 0 || tick < next) {
+                next = tick;
+            }
+        }
+        return next;
+    }
+
+    // Divisão arredondada para cima
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+}
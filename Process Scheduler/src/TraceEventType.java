@@ -0,0 +1,11 @@
+// Tipos de decisões registradas no trace de escalonamento
+public enum TraceEventType {
+    START, // Início da simulação no escalonador de curto prazo
+    ARRIVE, // Chegada de um processo ao escalonador de longo prazo
+    ADMIT, // Admissão de um processo no escalonador de curto prazo
+    DISPATCH, // Despacho de um processo para uma CPU
+    PREEMPT, // Processo deixa a CPU e volta à fila de prontos
+    BLOCK, // Processo deixa a CPU para uma operação de E/S
+    UNBLOCK, // Fim da operação de E/S; o processo volta à fila de prontos
+    FINISH // Finalização de um processo
+}
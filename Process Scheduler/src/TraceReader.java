@@ -0,0 +1,169 @@
+import java.io.BufferedInputStream; // Leitura com buffer de um fluxo de bytes.
+import java.io.DataInputStream; // Leitura de tipos primitivos de um fluxo binário.
+import java.io.EOFException; // Exceção lançada quando o fluxo termina inesperadamente.
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.nio.file.Files; // Fornece métodos utilitários para operações com arquivos.
+import java.nio.file.Path; // Representa o caminho de um arquivo.
+import java.util.HashMap; // Implementação de mapa baseada em tabela hash.
+import java.util.Map; // Interface que representa um mapa de chaves e valores.
+
+// Lê, em ordem, as decisões gravadas por TraceRecorder
+public class TraceReader implements AutoCloseable {
+    private final DataInputStream in; // Fluxo do arquivo
+    private final Path path; // Caminho do arquivo, usado nas mensagens de erro
+    private final Map<Long, String> names; // Nome de cada processo que ainda não terminou
+    private final int quantum; // Quantum da simulação gravada
+    private final int cpuCount; // Número de CPUs da simulação gravada
+    private final int maxLoad; // Carga máxima da simulação gravada
+    private final String policyName; // Política da simulação gravada
+    private long time; // Instante do último registro lido
+
+    // Decisão lida do trace
+    public static final class Event {
+        private final TraceEventType type; // Tipo da decisão
+        private final long time; // Instante da decisão
+        private final long pid; // Número do processo no trace (0 se não houver processo)
+        private final String processId; // Nome do processo (null se não houver processo)
+        private final int cpu; // CPU envolvida (-1 se não se aplica)
+
+        // Construtor que inicializa a decisão
+        private Event(TraceEventType type, long time, long pid, String processId, int cpu) {
+            this.type = type;
+            this.time = time;
+            this.pid = pid;
+            this.processId = processId;
+            this.cpu = cpu;
+        }
+
+        // Retorna o tipo da decisão
+        public TraceEventType getType() {
+            return type;
+        }
+
+        // Retorna o instante da decisão
+        public long getTime() {
+            return time;
+        }
+
+        // Retorna o número do processo no trace
+        public long getPid() {
+            return pid;
+        }
+
+        // Retorna o nome do processo
+        public String getProcessId() {
+            return processId;
+        }
+
+        // Retorna a CPU envolvida
+        public int getCpu() {
+            return cpu;
+        }
+
+        // Compara o conteúdo da decisão, ignorando o número do processo, que depende da ordem de gravação
+        public boolean sameAs(Event other) {
+            return type == other.type && time == other.time && cpu == other.cpu
+                    && (processId == null ? other.processId == null : processId.equals(other.processId));
+        }
+
+        // Retorna a decisão em uma linha de texto
+        @Override
+        public String toString() {
+            return time + " " + type + (processId == null ? "" : " " + processId) + (cpu < 0 ? "" : " cpu" + cpu);
+        }
+    }
+
+    // Construtor que abre o arquivo e lê o cabeçalho
+    public TraceReader(Path path) throws IOException {
+        this.path = path;
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16));
+        this.names = new HashMap<>();
+        if (in.readInt() != TraceRecorder.MAGIC) {
+            in.close();
+            throw new IOException("Not a scheduling trace: " + path); // Lança exceção se o arquivo não for um trace
+        }
+        int version = in.readInt();
+        if (version != TraceRecorder.VERSION) {
+            in.close();
+            throw new IOException("Unsupported trace version " + version + ": " + path); // Lança exceção se o formato for de outra versão
+        }
+        this.quantum = in.readInt();
+        this.cpuCount = in.readInt();
+        this.maxLoad = in.readInt();
+        this.policyName = in.readUTF();
+    }
+
+    // Lê a próxima decisão, ou retorna null no fim do arquivo
+    public Event next() throws IOException {
+        int marker;
+        while ((marker = in.read()) == TraceRecorder.NAME) {
+            long pid = readVarLong();
+            names.put(pid, in.readUTF()); // Associa o número ao nome do processo
+        }
+        if (marker < 0) {
+            return null;
+        }
+        if (marker >= TraceEventType.values().length) {
+            throw new IOException("Corrupt trace, unknown record " + marker + ": " + path); // Lança exceção se o registro for desconhecido
+        }
+        TraceEventType type = TraceEventType.values()[marker];
+        time += unZigZag(readVarLong());
+        long pid = readVarLong();
+        int cpu = (int) readVarLong() - 1;
+        String processId = pid == 0 ? null : names.get(pid);
+        if (pid != 0 && processId == null) {
+            throw new IOException("Corrupt trace, unknown process " + pid + ": " + path); // Lança exceção se o processo não foi declarado
+        }
+        if (type == TraceEventType.FINISH) {
+            names.remove(pid); // O número pode ser reutilizado
+        }
+        return new Event(type, time, pid, processId, cpu);
+    }
+
+    // Retorna o quantum da simulação gravada
+    public int getQuantum() {
+        return quantum;
+    }
+
+    // Retorna o número de CPUs da simulação gravada
+    public int getCpuCount() {
+        return cpuCount;
+    }
+
+    // Retorna a carga máxima da simulação gravada
+    public int getMaxLoad() {
+        return maxLoad;
+    }
+
+    // Retorna o nome da política da simulação gravada
+    public String getPolicyName() {
+        return policyName;
+    }
+
+    // Fecha o arquivo
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // Lê um inteiro gravado com 7 bits por byte
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated trace: " + path); // Lança exceção se o arquivo terminar no meio de um registro
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt trace, integer too long: " + path); // Lança exceção se o inteiro não terminar
+    }
+
+    // Desfaz a conversão feita ao gravar diferenças de tempo
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
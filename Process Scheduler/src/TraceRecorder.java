@@ -0,0 +1,91 @@
+import java.io.BufferedOutputStream; // Escrita com buffer em um fluxo de bytes.
+import java.io.DataOutputStream; // Escrita de tipos primitivos em um fluxo binário.
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.io.UncheckedIOException; // Exceção não verificada que encapsula uma IOException.
+import java.nio.file.Files; // Fornece métodos utilitários para operações com arquivos.
+import java.nio.file.Path; // Representa o caminho de um arquivo.
+import java.util.IdentityHashMap; // Mapa que compara as chaves por identidade.
+import java.util.Map; // Interface que representa um mapa de chaves e valores.
+
+// Grava um trace binário compacto de cada decisão dos escalonadores. Cada registro tem o tipo (1 byte), a diferença de tempo
+// para o registro anterior, o número do processo e a CPU, em inteiros de tamanho variável. O nome de um processo é gravado
+// uma única vez, na primeira vez que ele aparece, e o número é liberado quando o processo termina.
+public class TraceRecorder implements AutoCloseable {
+    static final int MAGIC = 0x53545243; // "STRC"
+    static final int VERSION = 1; // Versão do formato
+    static final int NAME = 0xFF; // Marcador do registro que associa um número a um nome de processo
+
+    private final DataOutputStream out; // Fluxo do arquivo
+    private final Map<Process, Integer> pids; // Número de cada processo que ainda não terminou
+    private int nextPid; // Próximo número de processo
+    private long lastTime; // Instante do registro anterior
+    private long recordedEvents; // Número de decisões registradas
+
+    // Construtor que cria (ou substitui) o arquivo e grava a configuração da simulação no cabeçalho
+    public TraceRecorder(Path path, int quantum, int cpuCount, int maxLoad, String policyName) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+        this.pids = new IdentityHashMap<>();
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(quantum);
+        out.writeInt(cpuCount);
+        out.writeInt(maxLoad);
+        out.writeUTF(policyName);
+    }
+
+    // Registra uma decisão; process pode ser null (START) e cpu é -1 quando não se aplica
+    public synchronized void record(TraceEventType type, long time, Process process, int cpu) {
+        try {
+            int pid = process == null ? 0 : pidOf(process);
+            out.writeByte(type.ordinal());
+            writeVarLong(zigZag(time - lastTime)); // Em tempo real, threads diferentes podem registrar fora de ordem
+            writeVarLong(pid);
+            writeVarLong(cpu + 1);
+            lastTime = time;
+            recordedEvents++;
+            if (type == TraceEventType.FINISH) {
+                pids.remove(process); // O processo não aparece mais no trace
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Retorna o número do processo, gravando seu nome na primeira vez que ele aparece
+    private int pidOf(Process process) throws IOException {
+        Integer pid = pids.get(process);
+        if (pid == null) {
+            pid = ++nextPid; // O número 0 é reservado para registros sem processo
+            pids.put(process, pid);
+            out.writeByte(NAME);
+            writeVarLong(pid);
+            out.writeUTF(process.getId());
+        }
+        return pid;
+    }
+
+    // Retorna o número de decisões registradas
+    public synchronized long getRecordedEvents() {
+        return recordedEvents;
+    }
+
+    // Grava o buffer e fecha o arquivo
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    // Grava um inteiro não negativo com 7 bits por byte
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    // Converte um inteiro com sinal em não negativo, mantendo valores pequenos pequenos
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
@@ -0,0 +1,69 @@
+import java.nio.file.Files; // Fornece métodos para criar e remover arquivos.
+import java.nio.file.Path; // Representa o caminho de um arquivo.
+import java.util.Map; // Interface que representa um mapa de chaves e valores.
+
+// Verificação de que o replay de um trace reproduz as métricas da execução original: para cada configuração, simula uma carga
+// gerada gravando o trace, refaz a execução com TraceTool e compara cada métrica, incluindo as esperas na fila de prontos e na
+// fila de longo prazo. Termina com exceção na primeira divergência.
+// Uso: java TraceReplayCheck [processos por configuração]
+public class TraceReplayCheck {
+    // Configurações verificadas, no formato das opções de HeadlessSimulator
+    private static final String[][] CONFIGURATIONS = {
+        {},
+        {"cpus", "4", "max-load", "20"},
+        {"cpus", "2", "policy", "mlfq", "devices", "disk:1:sjf,net:2", "arrival-rate", "50"},
+    };
+
+    // Método principal que verifica todas as configurações
+    public static void main(String[] args) throws Exception {
+        int processes = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+        for (String[] configuration : CONFIGURATIONS) {
+            Map<String, String> options = HeadlessSimulator.defaults();
+            for (int i = 0; i < configuration.length; i += 2) {
+                options.put(configuration[i], configuration[i + 1]);
+            }
+            options.put("processes", Integer.toString(processes));
+            check(options);
+        }
+    }
+
+    // Simula a configuração gravando o trace e compara as métricas da execução com as do replay
+    private static void check(Map<String, String> options) throws Exception {
+        BatchSimulation simulation = new BatchSimulation(Integer.parseInt(options.get("quantum")), Integer.parseInt(options.get("max-load")),
+                Integer.parseInt(options.get("cpus")), SchedulingPolicy.forName(options.get("policy")), message -> { });
+        HeadlessSimulator.configureDevices(simulation, options);
+        ShortTermScheduler shortTermScheduler = simulation.getShortTermScheduler();
+        Path trace = Files.createTempFile("replay-check", ".trace");
+        try {
+            TraceRecorder recorder = new TraceRecorder(trace, shortTermScheduler.getQuantum(), shortTermScheduler.getCpuCount(),
+                    simulation.getLongTermScheduler().getMaxLoad(), shortTermScheduler.getPolicy().getName());
+            shortTermScheduler.setTraceRecorder(recorder);
+            HeadlessSimulator.createGenerator(options).generate(Integer.parseInt(options.get("processes")), simulation::submit);
+            simulation.run();
+            recorder.close();
+
+            MetricsSnapshot live = shortTermScheduler.getMetricsSnapshot();
+            MetricsSnapshot replayed = TraceTool.replayMetrics(trace);
+            String name = options.get("policy") + ", " + options.get("cpus") + " CPUs, devices " + options.getOrDefault("devices", "default");
+            compare(name, "elapsedTime", live.getElapsedTime(), replayed.getElapsedTime());
+            compare(name, "finished", live.getFinished(), replayed.getFinished());
+            compare(name, "dispatches", live.getDispatches(), replayed.getDispatches());
+            compare(name, "cpuUtilization", live.getCpuUtilization(), replayed.getCpuUtilization());
+            compare(name, "turnaround", live.getTurnaround().toJson(), replayed.getTurnaround().toJson());
+            compare(name, "waiting", live.getWaiting().toJson(), replayed.getWaiting().toJson());
+            compare(name, "admission", live.getAdmission().toJson(), replayed.getAdmission().toJson());
+            compare(name, "response", live.getResponse().toJson(), replayed.getResponse().toJson());
+            compare(name, "readyQueueLength", live.getReadyQueueLength().toJson(), replayed.getReadyQueueLength().toJson());
+            System.out.printf("%-50s replay matches: waiting %s, admission %s%n", name, live.getWaiting().toJson(), live.getAdmission().toJson());
+        } finally {
+            Files.deleteIfExists(trace);
+        }
+    }
+
+    // Lança exceção se o valor do replay diferir do valor da execução
+    private static void compare(String name, String metric, Object live, Object replayed) {
+        if (!live.equals(replayed)) {
+            throw new IllegalStateException(name + ": " + metric + " differs: live " + live + ", replay " + replayed); // Replay divergente
+        }
+    }
+}
@@ -0,0 +1,175 @@
+import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.nio.file.Path; // Representa o caminho de um arquivo.
+import java.nio.file.Paths; // Fornece métodos para criar caminhos.
+import java.util.EnumMap; // Mapa otimizado para chaves de um enum.
+import java.util.HashMap; // Implementação de mapa baseada em tabela hash.
+import java.util.Map; // Interface que representa um mapa de chaves e valores.
+
+// Ferramenta de linha de comando para traces de escalonamento:
+//   replay: refaz a execução a partir do trace, recalculando as métricas com SimulationMetrics
+//   diff: compara dois traces, mostrando a primeira decisão divergente e as métricas de cada um
+//   dump: imprime as decisões em texto
+public class TraceTool {
+    private static final String USAGE = "Usage: java TraceTool replay <trace> | diff <trace> <trace> | dump <trace> [limit]";
+    private static final int DIFF_CONTEXT = 5; // Decisões exibidas a partir da primeira divergência
+    private static final ProgramImage EMPTY_PROGRAM = new ProgramImage(new int[0]); // Programa dos processos reconstruídos, que não executam instruções
+
+    // Resultado de um replay: configuração, contagem de decisões por tipo e métricas recalculadas
+    private static final class Replay {
+        private final String config; // Configuração gravada no cabeçalho, em JSON
+        private final Map<TraceEventType, Long> counts; // Número de decisões por tipo
+        private final MetricsSnapshot metrics; // Métricas recalculadas
+
+        // Construtor que inicializa o resultado
+        private Replay(String config, Map<TraceEventType, Long> counts, MetricsSnapshot metrics) {
+            this.config = config;
+            this.counts = counts;
+            this.metrics = metrics;
+        }
+
+        // Retorna o resultado em JSON
+        private String toJson() {
+            StringBuilder events = new StringBuilder();
+            for (TraceEventType type : TraceEventType.values()) {
+                events.append(events.length() == 0 ? "{" : ",").append('"').append(type.name().toLowerCase()).append("\":").append(counts.getOrDefault(type, 0L));
+            }
+            return "{\"config\":" + config + ",\"events\":" + events + "},\"metrics\":" + metrics.toJson() + "}";
+        }
+    }
+
+    // Método principal que executa o comando informado
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 2 && args[0].equals("replay")) {
+            System.out.println(replay(Paths.get(args[1])).toJson());
+        } else if (args.length >= 3 && args[0].equals("diff")) {
+            System.exit(diff(Paths.get(args[1]), Paths.get(args[2])) ? 0 : 1); // Código de saída 1 se os traces divergirem
+        } else if (args.length >= 2 && args[0].equals("dump")) {
+            dump(Paths.get(args[1]), args.length > 2 ? Long.parseLong(args[2]) : Long.MAX_VALUE);
+        } else {
+            System.err.println(USAGE); // Exibe mensagem de uso
+            System.exit(1); // Encerra o programa
+        }
+    }
+
+    // Refaz a execução gravada: cada decisão é aplicada a um processo reconstruído e registrada em SimulationMetrics,
+    // como faz o escalonador de curto prazo, de modo que as métricas resultantes coincidem com as da execução original
+    private static Replay replay(Path path) throws IOException {
+        try (TraceReader reader = new TraceReader(path)) {
+            SimulationMetrics metrics = new SimulationMetrics(reader.getCpuCount(), reader.getQuantum());
+            Map<Long, Process> processes = new HashMap<>(); // Processos que ainda não terminaram, pelo número no trace
+            Map<Long, Long> dispatchedAt = new HashMap<>(); // Instante do despacho de cada processo em execução
+            Map<TraceEventType, Long> counts = new EnumMap<>(TraceEventType.class);
+            int ready = 0; // Processos nas filas de prontos
+            int running = 0; // Processos em execução
+            long now = 0; // Instante da última decisão
+            TraceReader.Event event;
+            while ((event = reader.next()) != null) {
+                now = event.getTime();
+                counts.merge(event.getType(), 1L, Long::sum);
+                String processId = event.getProcessId();
+                Process process = processId == null ? null : processes.computeIfAbsent(event.getPid(), pid -> new Process(processId, EMPTY_PROGRAM));
+                switch (event.getType()) {
+                    case START:
+                        metrics.start(now);
+                        break;
+                    case ARRIVE:
+                        process.setArrivalTime(now);
+                        break;
+                    case ADMIT:
+                        process.setAdmissionTime(now); // A admissão encerra a espera na fila de longo prazo
+                        process.markReady(now);
+                        ready++;
+                        break;
+                    case UNBLOCK:
+                        process.markReady(now);
+                        ready++;
+                        break;
+                    case DISPATCH:
+                        ready--;
+                        running++;
+                        metrics.recordDispatch(now, ready, running);
+                        if (process.getFirstDispatchTime() < 0) {
+                            metrics.recordResponse(now - process.getArrivalTime()); // Tempo até o primeiro despacho
+                        }
+                        process.markDispatched(now);
+                        dispatchedAt.put(event.getPid(), now);
+                        break;
+                    case PREEMPT:
+                        running--;
+                        recordCpuBusy(metrics, dispatchedAt.remove(event.getPid()), now);
+                        process.markReady(now);
+                        ready++;
+                        break;
+                    case BLOCK:
+                        running--;
+                        dispatchedAt.remove(event.getPid()); // O bloqueio acontece no instante do despacho
+                        break;
+                    case FINISH:
+                        running--;
+                        recordCpuBusy(metrics, dispatchedAt.remove(event.getPid()), now);
+                        process.setCompletionTime(now);
+                        metrics.recordFinished(process);
+                        processes.remove(event.getPid());
+                        break;
+                    default:
+                        break;
+                }
+            }
+            String config = "{\"quantum\":" + reader.getQuantum() + ",\"maxLoad\":" + reader.getMaxLoad() + ",\"cpus\":" + reader.getCpuCount()
+                    + ",\"policy\":\"" + reader.getPolicyName() + "\"}";
+            return new Replay(config, counts, metrics.snapshot(now));
+        }
+    }
+
+    // Retorna as métricas recalculadas a partir do trace
+    static MetricsSnapshot replayMetrics(Path path) throws IOException {
+        return replay(path).metrics;
+    }
+
+    // Contabiliza a CPU ocupada desde o despacho; um trace iniciado a partir de um checkpoint não tem o despacho dos processos que já estavam em execução
+    private static void recordCpuBusy(SimulationMetrics metrics, Long dispatchTime, long now) {
+        if (dispatchTime != null) {
+            metrics.recordCpuBusy(now - dispatchTime);
+        }
+    }
+
+    // Compara dois traces decisão a decisão; retorna true se forem iguais
+    public static boolean diff(Path first, Path second) throws IOException {
+        long index = 0; // Posição da decisão
+        try (TraceReader a = new TraceReader(first); TraceReader b = new TraceReader(second)) {
+            TraceReader.Event x = a.next();
+            TraceReader.Event y = b.next();
+            while (x != null && y != null && x.sameAs(y)) {
+                index++;
+                x = a.next();
+                y = b.next();
+            }
+            if (x == null && y == null) {
+                System.out.println("Traces are identical (" + index + " events).");
+                return true;
+            }
+            System.out.println("First divergence at event " + index + ":");
+            for (int i = 0; i < DIFF_CONTEXT && (x != null || y != null); i++) {
+                System.out.println("  < " + (x == null ? "(end of trace)" : x));
+                System.out.println("  > " + (y == null ? "(end of trace)" : y));
+                x = x == null ? null : a.next();
+                y = y == null ? null : b.next();
+            }
+        }
+        System.out.println("< " + replay(first).toJson());
+        System.out.println("> " + replay(second).toJson());
+        return false;
+    }
+
+    // Imprime até limit decisões em texto
+    public static void dump(Path path, long limit) throws IOException {
+        try (TraceReader reader = new TraceReader(path)) {
+            System.out.println("# quantum " + reader.getQuantum() + ", max load " + reader.getMaxLoad() + ", cpus " + reader.getCpuCount()
+                    + ", policy " + reader.getPolicyName());
+            TraceReader.Event event;
+            for (long i = 0; i < limit && (event = reader.next()) != null; i++) {
+                System.out.println(event);
+            }
+        }
+    }
+}
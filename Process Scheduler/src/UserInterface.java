@@ -1,26 +1,60 @@
 import java.io.IOException; // Classe de exceção usada para indicar problemas durante operações de E/S.
+import java.nio.file.Paths; // Fornece métodos para criar caminhos.
 import java.util.function.Consumer; // Fornece a interface funcional Consumer usada para passar funções lambda.
-import java.util.ArrayList; // Implementação de lista baseada em array.
-import java.util.List; // Interface que representa uma lista de elementos.
+import java.util.Queue; // Interface que representa uma fila de elementos.
+import java.util.concurrent.ConcurrentLinkedQueue; // Fila encadeada concorrente e sem bloqueios.
+import java.util.concurrent.Executors; // Fornece métodos para criar executores.
+import java.util.concurrent.ScheduledExecutorService; // Executor que agenda tarefas periódicas.
+import java.util.concurrent.TimeUnit; // Enum usado para especificar unidades de tempo.
+import java.util.concurrent.atomic.AtomicReference; // Referência atualizada atomicamente.
 
 public class UserInterface extends Thread implements ControlInterface, SubmissionInterface, NotificationInterface {
+    private static final int DISPLAY_LIMIT = 10; // Processos exibidos por fila
+    private static final long SNAPSHOT_PERIOD = 250; // Intervalo entre cópias das filas publicadas para a interface
     private final LongTermScheduler longTermScheduler; // Referência ao escalonador de longo prazo
+    private final ShortTermScheduler shortTermScheduler; // Referência ao escalonador de curto prazo
+    private final SimulationClock clock; // Relógio compartilhado pelos escalonadores, pausado e encerrado pelos controles
     private final Consumer<String> outputConsumer; // Consumidor de saída para mensagens de status
-    private final List<Process> storedProcesses; // Armazena processos submetidos enquanto a simulação não está em execução
-    private boolean isSimulationRunning; // Indica se a simulação está em execução
+    private final Queue<Process> storedProcesses; // Armazena processos submetidos enquanto a simulação não está em execução
+    private volatile boolean isSimulationRunning; // Indica se a simulação está em execução
+    private volatile boolean isSimulationStopped; // Indica se a simulação foi encerrada e não pode mais ser retomada
+    private final AtomicReference<QueueSnapshot> snapshot; // Última cópia das filas, lida pela interface sem bloquear as filas
+    private final ScheduledExecutorService snapshots; // Thread próprio das cópias periódicas, fora do relógio da simulação
 
     // Construtor que inicializa as variáveis
     public UserInterface(LongTermScheduler longTermScheduler, ShortTermScheduler shortTermScheduler, Consumer<String> outputConsumer) {
         this.longTermScheduler = longTermScheduler; // Inicializa o escalonador de longo prazo
+        this.shortTermScheduler = shortTermScheduler; // Inicializa o escalonador de curto prazo
+        this.clock = shortTermScheduler.getClock(); // Inicializa o relógio
         this.outputConsumer = outputConsumer; // Inicializa o consumidor de saída
-        this.storedProcesses = new ArrayList<>(); // Inicializa a lista de processos armazenados
+        this.storedProcesses = new ConcurrentLinkedQueue<>(); // Inicializa a fila de processos armazenados
         this.isSimulationRunning = false; // Inicializa o estado da simulação como não em execução
+        this.isSimulationStopped = false; // Inicializa o estado da simulação como não encerrada
+        this.snapshot = new AtomicReference<>(); // Nenhuma cópia publicada
+        this.snapshots = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "queue-snapshots");
+            thread.setDaemon(true); // Não impede o encerramento da aplicação
+            return thread;
+        });
     }
 
     // Método que é chamado quando o thread é iniciado
     @Override
     public void run() {
-        // Mantém a implementação para comandos de console se necessário
+        // Publica as filas periodicamente em um thread próprio, para que a cópia não atrase os eventos do relógio
+        snapshots.scheduleAtFixedRate(this::publishPeriodicSnapshot, 0, SNAPSHOT_PERIOD, TimeUnit.MILLISECONDS);
+    }
+
+    // Método da cópia periódica; em pausa ou após o encerramento, a última cópia continua válida
+    private void publishPeriodicSnapshot() {
+        if (clock.isPaused() || isSimulationStopped) {
+            return;
+        }
+        try {
+            publishSnapshot();
+        } catch (RuntimeException e) {
+            outputConsumer.accept("Failed to capture queues: " + e); // Uma exceção não tratada cancelaria as cópias seguintes
+        }
     }
 
     // Método para submeter um trabalho
@@ -28,13 +62,12 @@ public class UserInterface extends Thread implements ControlInterface, Submissio
     public boolean submitJob(String fileName) {
         try {
             Process process = ProgramParser.parseFile(fileName); // Analisa o arquivo e cria um processo
-            if (isSimulationRunning) { // Verifica se a simulação está em execução
-                longTermScheduler.addProcess(process); // Adiciona o processo ao escalonador de longo prazo
+            if (enqueue(process)) { // Verifica se a simulação está em execução
                 outputConsumer.accept("Process immediately moved to long term scheduler: " + process.getId());
             } else {
-                storedProcesses.add(process); // Armazena o processo sem iniciar a simulação
                 outputConsumer.accept("Job submitted: " + fileName);
             }
+            publishSnapshot(); // Mostra a submissão mesmo com o relógio em pausa
             return true;
         } catch (IOException e) {
             outputConsumer.accept("Failed to read file: " + e.getMessage());
@@ -42,66 +75,152 @@ public class UserInterface extends Thread implements ControlInterface, Submissio
         }
     }
 
+    // Método para submeter em lote todos os programas de um diretório ou de um arquivo com vários programas
+    public int submitBatch(String path) {
+        try (BulkProgramLoader loader = new BulkProgramLoader(Runtime.getRuntime().availableProcessors(), this::enqueue, outputConsumer)) {
+            int loaded = loader.load(Paths.get(path)); // Analisa os programas em paralelo
+            outputConsumer.accept("Jobs submitted from " + path + ": " + loaded + " (" + loader.getFailures() + " failed)");
+            publishSnapshot(); // Uma única cópia para o lote inteiro
+            return loaded;
+        } catch (IOException e) {
+            outputConsumer.accept("Failed to read file: " + e.getMessage());
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Preserva o estado de interrupção
+            outputConsumer.accept("Batch submission interrupted: " + path);
+            return 0;
+        }
+    }
+
+    // Método que envia o processo ao escalonador de longo prazo, ou o armazena se a simulação não estiver em execução
+    private boolean enqueue(Process process) {
+        if (isSimulationRunning) {
+            longTermScheduler.addProcess(process); // Adiciona o processo ao escalonador de longo prazo
+            return true;
+        }
+        storedProcesses.add(process); // Armazena o processo sem iniciar a simulação
+        return false;
+    }
+
     // Método para exibir a fila de submissão
     @Override
     public void displaySubmissionQueue() {
-        // Implementação para exibir a fila de submissão
+        outputConsumer.accept(describe("Submitted", publishSnapshot().getSubmission()));
     }
 
     // Método para iniciar a simulação
     @Override
     public void startSimulation() {
-        if (!isSimulationRunning) { // Verifica se a simulação não está em execução
+        startOrResume("Simulation started.");
+    }
+
+    // Método que coloca a simulação em execução, retomando o relógio se ele estiver em pausa
+    private synchronized void startOrResume(String message) {
+        if (isSimulationStopped) { // Verifica se a simulação já foi encerrada
+            outputConsumer.accept("Simulation has been stopped.");
+        } else if (!isSimulationRunning) { // Verifica se a simulação não está em execução
+            clock.resume(); // Descongela os eventos pendentes, se estiverem em pausa
             isSimulationRunning = true; // Define o estado da simulação como em execução
-            outputConsumer.accept("Simulation started.");
+            outputConsumer.accept(message);
             moveStoredProcessesToLongTermScheduler(); // Move os processos armazenados para o escalonador de longo prazo
+            publishSnapshot();
         } else {
             outputConsumer.accept("Simulation is already running.");
         }
     }
 
+    // Método que congela a simulação: despachos e operações de E/S em andamento param, preservando o tempo restante
+    private synchronized void freeze(String message) {
+        if (isSimulationRunning) { // Verifica se a simulação está em execução
+            clock.pause(); // Congela os eventos pendentes
+            publishSnapshot(); // Cópia do estado congelado
+            isSimulationRunning = false; // Define o estado da simulação como não em execução
+            outputConsumer.accept(message);
+        } else {
+            outputConsumer.accept("Simulation is not running.");
+        }
+    }
+
     // Método para mover os processos armazenados para o escalonador de longo prazo
     private void moveStoredProcessesToLongTermScheduler() {
         outputConsumer.accept("Moving stored processes to long term scheduler...");
-        for (Process process : storedProcesses) {
+        Process process;
+        while ((process = storedProcesses.poll()) != null) { // Esvazia a fila, sem perder processos submetidos em paralelo
             longTermScheduler.addProcess(process); // Adiciona o processo ao escalonador de longo prazo
             outputConsumer.accept("Process moved to long term scheduler: " + process.getId());
         }
-        storedProcesses.clear(); // Limpa a lista de processos armazenados após iniciar a simulação
     }
 
     // Método para suspender a simulação
     @Override
     public void suspendSimulation() {
-        isSimulationRunning = false; // Define o estado da simulação como não em execução
-        outputConsumer.accept("Simulation suspended.");
-        // Implementação para suspender a simulação
+        freeze("Simulation suspended.");
     }
 
     // Método para retomar a simulação
     @Override
     public void resumeSimulation() {
-        if (!isSimulationRunning) { // Verifica se a simulação não está em execução
-            isSimulationRunning = true; // Define o estado da simulação como em execução
-            outputConsumer.accept("Simulation resumed.");
-            moveStoredProcessesToLongTermScheduler(); // Move os processos armazenados para o escalonador de longo prazo
-        } else {
-            outputConsumer.accept("Simulation is already running.");
-        }
+        startOrResume("Simulation resumed.");
     }
 
-    // Método para parar a simulação
+    // Método para parar a simulação: descarta os eventos pendentes e encerra os threads do relógio
     @Override
-    public void stopSimulation() {
+    public synchronized void stopSimulation() {
+        if (isSimulationStopped) { // Verifica se a simulação já foi encerrada
+            outputConsumer.accept("Simulation has been stopped.");
+            return;
+        }
         isSimulationRunning = false; // Define o estado da simulação como não em execução
+        isSimulationStopped = true; // A simulação não pode mais ser retomada
+        clock.shutdown(); // Espera os eventos em andamento e encerra o agendador
+        snapshots.shutdown(); // Encerra as cópias periódicas; a cópia final é feita abaixo
+        TraceRecorder traceRecorder = shortTermScheduler.getTraceRecorder();
+        if (traceRecorder != null) {
+            try {
+                traceRecorder.close(); // Nenhuma decisão é tomada depois do encerramento
+            } catch (IOException e) {
+                outputConsumer.accept("Failed to close trace file: " + e.getMessage());
+            }
+        }
+        publishSnapshot(); // Cópia do estado final
         outputConsumer.accept("Simulation stopped.");
-        // Implementação para parar a simulação
     }
 
     // Método para exibir as filas de processos
     @Override
     public void displayProcessQueues() {
-        // Implementação para exibir as filas de processos
+        QueueSnapshot queues = publishSnapshot();
+        outputConsumer.accept("Queues at " + queues.getTime() + ":");
+        outputConsumer.accept(describe("Waiting", queues.getWaiting()));
+        outputConsumer.accept(describe("Ready", queues.getReady()));
+        outputConsumer.accept(describe("Running", queues.getRunning()));
+        outputConsumer.accept(describe("Blocked", queues.getBlocked()));
+        outputConsumer.accept(describe("Finished", queues.getFinished()));
+    }
+
+    // Monta uma linha com o tamanho de uma fila e os primeiros processos
+    private static String describe(String label, QueueSnapshot.Listing listing) {
+        StringBuilder line = new StringBuilder(label).append(" (").append(listing.getTotal()).append("):");
+        for (int i = 0; i < DISPLAY_LIMIT && i < listing.size(); i++) {
+            line.append(i == 0 ? " " : ", ").append(listing.describe(i));
+        }
+        if (listing.getTotal() > Math.min(DISPLAY_LIMIT, listing.size())) {
+            line.append(", ..."); // Fila truncada
+        }
+        return line.toString();
+    }
+
+    // Copia as filas e publica a cópia para a interface, a menos que uma cópia iniciada depois já tenha sido publicada;
+    // retorna a cópia feita. Percorre todas as filas, então não deve ser chamado na thread de eventos do Swing.
+    public QueueSnapshot publishSnapshot() {
+        QueueSnapshot queues = QueueSnapshot.capture(storedProcesses, longTermScheduler, shortTermScheduler);
+        snapshot.accumulateAndGet(queues, (current, next) -> current == null || next.getSequence() > current.getSequence() ? next : current);
+        return queues;
+    }
+
+    // Retorna a última cópia publicada das filas (null antes da primeira publicação)
+    public QueueSnapshot getSnapshot() {
+        return snapshot.get();
     }
 
     // Método para exibir uma mensagem
@@ -112,8 +231,6 @@ public class UserInterface extends Thread implements ControlInterface, Submissio
 
     // Método para pausar a simulação
     public void pauseSimulation() {
-        isSimulationRunning = false; // Define o estado da simulação como não em execução
-        outputConsumer.accept("Simulation paused.");
-        // Implementação para pausar a simulação
+        freeze("Simulation paused.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+import java.util.PriorityQueue; // Fila de prioridade usada como fila de eventos.
+import java.util.function.BooleanSupplier; // Interface funcional usada como condição de parada.
+
+// Relógio virtual de simulação por eventos discretos: o tempo avança de evento em evento, sem esperas reais
+public class VirtualClock implements SimulationClock {
+    private final PriorityQueue<SimulationEvent> events; // Fila de eventos pendentes ordenada por instante
+    private long now; // Instante virtual atual
+    private long nextSequence; // Próximo número de sequência para desempate
+    private boolean shutdown; // Indica se o relógio foi encerrado
+    private volatile boolean paused; // Indica se a execução deve parar antes do próximo evento
+    private SchedulerInstrumentation instrumentation; // Recebe a duração de cada evento (null para nenhuma)
+
+    // Construtor que inicializa o relógio no instante zero
+    public VirtualClock() {
+        this.events = new PriorityQueue<>(); // Inicializa a fila de eventos
+        this.now = 0; // Inicializa o tempo virtual
+        this.nextSequence = 0; // Inicializa a sequência
+        this.shutdown = false;
+    }
+
+    // Retorna o instante virtual atual
+    @Override
+    public long now() {
+        return now;
+    }
+
+    // Agenda um evento único e retorna sua sequência
+    @Override
+    public long schedule(EventType type, Runnable action, long delay) {
+        long sequence = nextSequence++;
+        events.add(new SimulationEvent(now + delay, sequence, type, action, 0));
+        return sequence;
+    }
+
+    // Agenda um evento periódico
+    @Override
+    public void scheduleAtFixedRate(EventType type, Runnable action, long initialDelay, long period) {
+        events.add(new SimulationEvent(now + initialDelay, nextSequence++, type, action, period));
+    }
+
+    // Faz a execução em andamento parar antes do próximo evento; pode ser chamado de outro thread
+    @Override
+    public void pause() {
+        paused = true;
+    }
+
+    // Permite que a execução continue; os eventos são processados na próxima chamada de runUntil
+    @Override
+    public void resume() {
+        paused = false;
+    }
+
+    // Verifica se o relógio está em pausa
+    @Override
+    public boolean isPaused() {
+        return paused;
+    }
+
+    // Descarta os eventos pendentes e impede que a execução continue
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        events.clear();
+    }
+
+    // Define onde registrar a duração de cada evento; deve ser chamado antes de processar os eventos
+    @Override
+    public void setInstrumentation(SchedulerInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    // Processa eventos em ordem até que a condição de parada seja satisfeita ou não haja mais eventos
+    public void runUntil(BooleanSupplier done) {
+        runUntilTime(Long.MAX_VALUE, done);
+    }
+
+    // Processa em ordem os eventos com instante até o limite informado, parando antes dos posteriores ou se o relógio for pausado
+    public void runUntilTime(long limit, BooleanSupplier done) {
+        while (!shutdown && !paused && !done.getAsBoolean() && !events.isEmpty() && events.peek().getTime() <= limit) {
+            SimulationEvent event = events.poll(); // Remove o próximo evento
+            now = event.getTime(); // Avança o relógio até o instante do evento
+            if (instrumentation == null || !instrumentation.isEnabled()) {
+                event.getAction().run(); // Executa a ação do evento
+            } else {
+                long start = System.nanoTime();
+                event.getAction().run();
+                instrumentation.recordTimer(event.getType(), 0, System.nanoTime() - start, false); // O tempo virtual nunca atrasa
+            }
+            if (event.getPeriod() > 0 && !shutdown) {
+                // O evento periódico é reagendado depois da ação, para que eventos criados por ela no mesmo instante tenham precedência
+                events.add(new SimulationEvent(now + event.getPeriod(), nextSequence++, event.getType(), event.getAction(), event.getPeriod()));
+            }
+        }
+    }
+
+    // Define o instante atual ao restaurar um checkpoint; só é permitido antes de qualquer evento ser agendado
+    public void restoreTime(long time) {
+        if (!events.isEmpty()) {
+            throw new IllegalStateException("Clock time can only be restored before events are scheduled"); // Lança exceção se já houver eventos
+        }
+        now = time;
+    }
+
+    // Retorna o número de eventos pendentes
+    public int getPendingEvents() {
+        return events.size();
+    }
+}
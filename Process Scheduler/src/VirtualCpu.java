@@ -0,0 +1,69 @@
+import java.util.concurrent.atomic.AtomicBoolean; // Indicador atômico.
+
+// CPU simulada: cada núcleo possui sua própria fila de prontos
+public class VirtualCpu {
+    private final int id; // Identificador do núcleo
+    private final ReadyQueue runQueue; // Fila de prontos local do núcleo
+    private volatile Process running; // Processo em execução no núcleo (null se não houver)
+    private final AtomicBoolean idle; // Indica se o núcleo está estacionado, sem despacho agendado, à espera de trabalho
+    private long nextDispatchTime; // Instante do próximo despacho agendado, quando não há processo em execução
+    private long nextDispatchSequence; // Sequência do próximo despacho agendado
+
+    // Construtor que inicializa o núcleo com uma fila vazia
+    public VirtualCpu(int id) {
+        this.id = id;
+        this.runQueue = new ReadyQueue();
+        this.idle = new AtomicBoolean();
+    }
+
+    // Retorna o identificador do núcleo
+    public int getId() {
+        return id;
+    }
+
+    // Retorna a fila de prontos local
+    public ReadyQueue getRunQueue() {
+        return runQueue;
+    }
+
+    // Retorna o processo em execução no núcleo (null se não houver)
+    public Process getRunning() {
+        return running;
+    }
+
+    // Define o processo em execução no núcleo
+    public void setRunning(Process running) {
+        this.running = running;
+    }
+
+    // Registra o próximo despacho agendado
+    public void setNextDispatch(long time, long sequence) {
+        this.nextDispatchTime = time;
+        this.nextDispatchSequence = sequence;
+    }
+
+    // Retorna o instante do próximo despacho agendado
+    public long getNextDispatchTime() {
+        return nextDispatchTime;
+    }
+
+    // Retorna a sequência do próximo despacho agendado
+    public long getNextDispatchSequence() {
+        return nextDispatchSequence;
+    }
+
+    // Estaciona o núcleo até que haja trabalho
+    public void park() {
+        idle.set(true);
+    }
+
+    // Acorda o núcleo; retorna true apenas para quem o acordou, para que só um despacho seja agendado
+    public boolean wake() {
+        return idle.compareAndSet(true, false);
+    }
+
+    // Verifica se o núcleo está estacionado
+    public boolean isIdle() {
+        return idle.get();
+    }
+}
@@ -0,0 +1,79 @@
+import java.util.Random; // Gerador de números pseudoaleatórios.
+
+// Gera cargas sintéticas diretamente em memória, já compiladas no formato de ProgramCode, sem escrever arquivos de programa.
+// Cada programa alterna rajadas de CPU e de E/S, começando e terminando com CPU; os comprimentos seguem distribuições
+// geométricas. Processos CPU-bound têm rajadas de CPU longas e de E/S curtas; processos I/O-bound, o contrário.
+// As chegadas seguem um processo de Poisson com a taxa informada (0 faz todos os processos chegarem no instante zero).
+public class WorkloadGenerator {
+    private final double cpuBoundFraction; // Fração dos processos que são CPU-bound
+    private final double cpuBurstMean; // Média, em quanta, das rajadas de CPU longas
+    private final double ioBurstMean; // Média, em quanta, das rajadas de E/S longas
+    private final int burstsPerProcess; // Número de rajadas de CPU de cada programa
+    private final double arrivalRate; // Chegadas por segundo de tempo simulado
+    private final Random random; // Gerador com semente fixa, para cargas reproduzíveis
+    private int[] ioDevices; // Dispositivos entre os quais as rajadas de E/S são sorteadas
+
+    // Destino dos processos gerados
+    public interface Sink {
+        void accept(Process process, long arrivalTime);
+    }
+
+    // Construtor que inicializa os parâmetros da carga
+    public WorkloadGenerator(double cpuBoundFraction, double cpuBurstMean, double ioBurstMean, int burstsPerProcess, double arrivalRate, long seed) {
+        if (cpuBoundFraction < 0 || cpuBoundFraction > 1 || cpuBurstMean < 1 || ioBurstMean < 1 || burstsPerProcess < 1 || arrivalRate < 0) {
+            throw new IllegalArgumentException("Invalid workload parameters"); // Lança exceção se algum parâmetro for inválido
+        }
+        this.cpuBoundFraction = cpuBoundFraction;
+        this.cpuBurstMean = cpuBurstMean;
+        this.ioBurstMean = ioBurstMean;
+        this.burstsPerProcess = burstsPerProcess;
+        this.arrivalRate = arrivalRate;
+        this.random = new Random(seed);
+        this.ioDevices = new int[] {0}; // Apenas o dispositivo padrão
+    }
+
+    // Define os dispositivos (índices do registro) entre os quais cada rajada de E/S é sorteada uniformemente
+    public void setIoDevices(int... ioDevices) {
+        if (ioDevices.length == 0) {
+            throw new IllegalArgumentException("At least one I/O device is required"); // Lança exceção se a lista estiver vazia
+        }
+        this.ioDevices = ioDevices.clone();
+    }
+
+    // Gera count processos e os entrega ao destino em ordem de chegada
+    public void generate(int count, Sink sink) {
+        double arrivalTime = 0; // Instante da próxima chegada, em milissegundos
+        for (int i = 0; i < count; i++) {
+            boolean cpuBound = random.nextDouble() < cpuBoundFraction;
+            String id = (cpuBound ? "gen_" + i + "_CPU" : "gen_" + i + "_IO");
+            sink.accept(new Process(id, new ProgramImage(generateProgram(cpuBound))), (long) arrivalTime);
+            if (arrivalRate > 0) {
+                arrivalTime += -Math.log(1 - random.nextDouble()) * 1000.0 / arrivalRate; // Intervalo exponencial entre chegadas
+            }
+        }
+    }
+
+    // Gera um programa compilado alternando rajadas de CPU e de E/S
+    private int[] generateProgram(boolean cpuBound) {
+        int[] code = new int[burstsPerProcess * 2 - 1];
+        int words = 0;
+        for (int burst = 0; burst < burstsPerProcess; burst++) {
+            if (burst > 0) {
+                int units = Math.min(geometric(cpuBound ? 1 : ioBurstMean), ProgramCode.MAX_BLOCK_UNITS);
+                int device = ioDevices.length == 1 ? ioDevices[0] : ioDevices[random.nextInt(ioDevices.length)];
+                code[words++] = ProgramCode.encode(ProgramCode.BLOCK, ProgramCode.blockOperand(device, units));
+            }
+            code[words++] = ProgramCode.encode(ProgramCode.EXECUTE, geometric(cpuBound ? cpuBurstMean : 1));
+        }
+        return code;
+    }
+
+    // Sorteia um valor geométrico (>= 1) com a média informada
+    private int geometric(double mean) {
+        if (mean <= 1) {
+            return 1;
+        }
+        double value = 1 + Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - 1 / mean));
+        return (int) Math.min(value, ProgramCode.MAX_OPERAND);
+    }
+}